@@ -43,6 +43,7 @@ import net.javacrumbs.jsonunit.core.Option;
 import net.javacrumbs.jsonunit.core.internal.Diff;
 import net.javacrumbs.jsonunit.core.internal.JsonUtils;
 import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.ParsedDocument;
 import net.javacrumbs.jsonunit.core.internal.Path;
 import net.javacrumbs.jsonunit.core.internal.matchers.InternalMatcher;
 import net.javacrumbs.jsonunit.core.listener.DifferenceListener;
@@ -66,20 +67,26 @@ public class JsonAssert extends AbstractAssert<JsonAssert, Object> {
     final Path path;
     final Configuration configuration;
 
-    private final @Nullable Object actualForMatcher;
+    // the actual value is parsed only once, the document is shared with matchers and JsonPath evaluation
+    final @Nullable ParsedDocument document;
 
     @SuppressWarnings("CheckReturnValue")
-    JsonAssert(Path path, Configuration configuration, @Nullable Object actual, boolean alreadyParsed) {
-        super(
-                alreadyParsed ? JsonUtils.wrapDeserializedObject(actual) : JsonUtils.convertToJson(actual, "actual"),
-                JsonAssert.class);
+    private JsonAssert(Path path, Configuration configuration, @Nullable ParsedDocument document) {
+        super(document != null ? document.getNode() : JsonUtils.convertToJson(null, "actual"), JsonAssert.class);
         this.path = path;
         this.configuration = configuration;
-        this.actualForMatcher = alreadyParsed ? JsonUtils.wrapDeserializedObject(actual) : actual;
+        this.document = document;
         //noinspection ResultOfMethodCallIgnored
         usingComparator(new JsonComparator(configuration, path, false));
     }
 
+    JsonAssert(Path path, Configuration configuration, @Nullable Object actual, boolean alreadyParsed) {
+        this(
+                path,
+                configuration,
+                ParsedDocument.of(alreadyParsed ? JsonUtils.wrapDeserializedObject(actual) : actual, "actual"));
+    }
+
     JsonAssert(Path path, Configuration configuration, @Nullable Object actual) {
         this(path, configuration, actual, false);
     }
@@ -197,7 +204,7 @@ public class JsonAssert extends AbstractAssert<JsonAssert, Object> {
 
     private InternalMatcher internalMatcher() {
         String description = mostRelevantDescription(info.description(), "Node \"" + path + "\"");
-        return new InternalMatcher(actualForMatcher, path.asPrefix(), "", configuration, description);
+        return new InternalMatcher(document, path.asPrefix(), "", configuration, description);
     }
 
     /**
@@ -317,12 +324,8 @@ public class JsonAssert extends AbstractAssert<JsonAssert, Object> {
      */
     @NullMarked
     public static class ConfigurableJsonAssert extends JsonAssert {
-        // Want to pass to inPath to not parse twice.
-        private final @Nullable Object originalActual;
-
         ConfigurableJsonAssert(Path path, Configuration configuration, @Nullable Object actual) {
             super(path, configuration, actual);
-            this.originalActual = actual;
         }
 
         ConfigurableJsonAssert(@Nullable Object actual, Configuration configuration) {
@@ -369,7 +372,7 @@ public class JsonAssert extends AbstractAssert<JsonAssert, Object> {
          */
         public ConfigurableJsonAssert withConfiguration(Function<Configuration, Configuration> configurationFunction) {
             Configuration newConfiguration = configurationFunction.apply(configuration);
-            newConfiguration = resolveJsonPaths(originalActual, newConfiguration);
+            newConfiguration = resolveJsonPaths(document, newConfiguration);
             return new ConfigurableJsonAssert(path, newConfiguration, actual);
         }
 
@@ -417,7 +420,7 @@ public class JsonAssert extends AbstractAssert<JsonAssert, Object> {
         }
 
         public JsonAssert inPath(String jsonPath) {
-            return new JsonAssert(JsonPathAdapter.inPath(originalActual, jsonPath), configuration);
+            return new JsonAssert(JsonPathAdapter.inPath(document, jsonPath), configuration);
         }
 
         // Following methods are here just to return ConfigurableJsonAssert instead of JsonAssert
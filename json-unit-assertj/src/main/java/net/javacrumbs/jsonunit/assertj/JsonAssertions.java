@@ -73,7 +73,7 @@ public final class JsonAssertions {
      * @return Object suitable for comparison. Implementation type may change in the future.
      */
     public static Object json(Object input) {
-        return new ExpectedNode(JsonUtils.convertToJson(input, "expected", true));
+        return new ExpectedNode(JsonUtils.convertExpectedToJson(input, "expected"));
     }
 
     /**
@@ -18,18 +18,28 @@ package net.javacrumbs.jsonunit.assertj;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.wrapDeserializedObject;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
 import net.javacrumbs.jsonunit.core.internal.Diff;
 import net.javacrumbs.jsonunit.core.internal.Node;
 import net.javacrumbs.jsonunit.core.internal.Path;
 import org.assertj.core.groups.Tuple;
+import org.jspecify.annotations.Nullable;
 
 class JsonComparator implements Comparator<Object> {
     private final Configuration configuration;
     private final Path path;
     private final boolean actualParsed;
 
+    // AssertJ compares each expected value with many actual values and vice versa, values are converted only once
+    private final IdentityHashMap<Object, ConvertedValue> expectedValues = new IdentityHashMap<>();
+    private final IdentityHashMap<Object, ConvertedValue> actualValues = new IdentityHashMap<>();
+
+    // compiled on the first comparison, most of the assertions never use the comparator
+    private @Nullable CompiledConfiguration compiledConfiguration;
+
     JsonComparator(Configuration configuration, Path path, boolean actualParsed) {
         this.configuration = configuration;
         this.path = path;
@@ -53,10 +63,23 @@ class JsonComparator implements Comparator<Object> {
             expected = tmp;
         }
 
+        CompiledConfiguration configuration = compiledConfiguration();
+        ConvertedValue expectedValue = expectedValues.computeIfAbsent(
+                expected, value -> convert(configuration, configuration.convertExpected(value), Path.root()));
         // if actual is already parsed, do not parse it again.
-        Object actual2 = actualParsed ? wrapDeserializedObject(actual) : actual;
+        ConvertedValue actualValue = actualValues.computeIfAbsent(
+                actual,
+                value -> convert(
+                        configuration,
+                        actualParsed ? wrapDeserializedObject(value) : configuration.convertActual(value, ""),
+                        path));
+
+        Integer expectedHash = expectedValue.hash();
+        if (expectedHash != null && actualValue.hash() != null && !expectedHash.equals(actualValue.hash())) {
+            return -1;
+        }
 
-        Diff diff = Diff.create(expected, actual2, "", path, configuration);
+        Diff diff = Diff.create(expectedValue.node(), actualValue.node(), path, configuration);
         if (diff.similar()) {
             return 0;
         } else {
@@ -64,6 +87,19 @@ class JsonComparator implements Comparator<Object> {
         }
     }
 
+    private CompiledConfiguration compiledConfiguration() {
+        CompiledConfiguration result = compiledConfiguration;
+        if (result == null) {
+            result = CompiledConfiguration.compile(configuration);
+            compiledConfiguration = result;
+        }
+        return result;
+    }
+
+    private static ConvertedValue convert(CompiledConfiguration configuration, Node node, Path path) {
+        return new ConvertedValue(node, configuration.exactHash(node, path));
+    }
+
     private int compareTuples(Tuple actual, Tuple expected) {
         List<Object> actualList = actual.toList();
         List<Object> expectedList = expected.toList();
@@ -75,4 +111,9 @@ class JsonComparator implements Comparator<Object> {
         }
         return 0;
     }
+
+    /**
+     * @param hash values with different hashes are not equal, null if the hash can not be used
+     */
+    private record ConvertedValue(Node node, @Nullable Integer hash) {}
 }
@@ -18,6 +18,8 @@ package net.javacrumbs.jsonunit.assertj;
 import static java.util.Arrays.stream;
 import static java.util.Objects.deepEquals;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.json;
+import static net.javacrumbs.jsonunit.core.Configuration.dummyDifferenceListener;
+import static net.javacrumbs.jsonunit.core.Option.FAIL_FAST;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.getNode;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.wrapDeserializedObject;
 import static org.assertj.core.api.Assertions.entry;
@@ -27,11 +29,15 @@ import static org.assertj.core.error.ShouldContainValue.shouldContainValue;
 import static org.assertj.core.error.ShouldNotContainValue.shouldNotContainValue;
 import static org.assertj.core.util.Arrays.array;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
 import net.javacrumbs.jsonunit.core.internal.Diff;
 import net.javacrumbs.jsonunit.core.internal.Node;
 import net.javacrumbs.jsonunit.core.internal.Path;
@@ -43,6 +49,9 @@ public class JsonMapAssert extends AbstractMapAssert<JsonMapAssert, Map<String,
     private final Configuration configuration;
     private final Path path;
 
+    // created on first value lookup
+    private @Nullable ValueIndex valueIndex;
+
     @SuppressWarnings("CheckReturnValue")
     JsonMapAssert(Map<String, Object> actual, Path path, Configuration configuration) {
         super(actual, JsonMapAssert.class);
@@ -274,11 +283,80 @@ public class JsonMapAssert extends AbstractMapAssert<JsonMapAssert, Map<String,
     }
 
     private boolean contains(Object expected) {
-        return actual.entrySet().stream().anyMatch(entry -> isSimilar(entry.getValue(), expected));
+        return valueIndex().contains(expected);
     }
 
     private boolean isSimilar(Object actual, Object expected) {
-        return Diff.create(expected, actual, "fullJson", path.asPrefix(), configuration)
-                .similar();
+        return valueIndex().isSimilar(wrapDeserializedObject(actual), expected);
+    }
+
+    private ValueIndex valueIndex() {
+        if (valueIndex == null) {
+            valueIndex = new ValueIndex(actual.values(), path.asPrefix(), configuration);
+        }
+        return valueIndex;
+    }
+
+    /**
+     * Values of the map, scalar values are indexed by hash so an expected value without placeholders does not have
+     * to be compared with all of them.
+     */
+    private static final class ValueIndex {
+        private final CompiledConfiguration configuration;
+        private final Path path;
+        private final Map<Integer, List<Node>> scalarValues = new HashMap<>();
+        private final List<Node> unhashedScalarValues = new ArrayList<>();
+        private final List<Node> structuredValues = new ArrayList<>();
+        private final List<Node> allValues = new ArrayList<>();
+
+        private ValueIndex(Collection<@Nullable Object> values, Path path, Configuration configuration) {
+            // only the result matters, the comparison can stop on the first difference
+            this.configuration = CompiledConfiguration.compile(configuration
+                    .withDifferenceListener(dummyDifferenceListener())
+                    .withOptions(FAIL_FAST));
+            this.path = path;
+            for (Object value : values) {
+                Node node = wrapDeserializedObject(value);
+                if (isScalar(node)) {
+                    Integer hash = this.configuration.exactHash(node, Path.root());
+                    if (hash != null) {
+                        scalarValues
+                                .computeIfAbsent(hash, key -> new ArrayList<>())
+                                .add(node);
+                    } else {
+                        unhashedScalarValues.add(node);
+                    }
+                } else {
+                    structuredValues.add(node);
+                }
+                allValues.add(node);
+            }
+        }
+
+        private boolean contains(Object expected) {
+            Node expectedNode = configuration.convertExpected(expected);
+            Integer hash = configuration.exactHash(expectedNode, Path.root());
+            if (hash == null) {
+                return anyMatch(allValues, expectedNode);
+            } else if (isScalar(expectedNode)) {
+                return anyMatch(scalarValues.getOrDefault(hash, List.of()), expectedNode)
+                        || anyMatch(unhashedScalarValues, expectedNode);
+            } else {
+                return anyMatch(structuredValues, expectedNode);
+            }
+        }
+
+        private boolean anyMatch(List<Node> candidates, Node expected) {
+            return candidates.stream().anyMatch(candidate -> isSimilar(candidate, expected));
+        }
+
+        private boolean isSimilar(Node actual, Object expected) {
+            return Diff.create(configuration.convertExpected(expected), actual, path, configuration)
+                    .similar();
+        }
+
+        private static boolean isScalar(Node node) {
+            return node.getNodeType() != Node.NodeType.OBJECT && node.getNodeType() != Node.NodeType.ARRAY;
+        }
     }
 }
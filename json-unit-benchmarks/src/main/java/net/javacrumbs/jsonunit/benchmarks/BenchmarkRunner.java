@@ -0,0 +1,48 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so allocation regressions are visible, and with JVM arguments
+ * needed by the forked benchmarks. Accepts the standard JMH command line options, for example
+ *
+ * <pre>
+ * java -jar json-unit-benchmarks/target/benchmarks.jar CompareBenchmark -p library=jackson2 -p size=LARGE
+ * </pre>
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+        // nothing
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .addProfiler(GCProfiler.class)
+                        // Johnzon does not work on Java 16+ without opening java.util,
+                        // the same as in the open-java-base profile
+                        .jvmArgsAppend("--add-opens=java.base/java.util=ALL-UNNAMED")
+                        .build())
+                .run();
+    }
+}
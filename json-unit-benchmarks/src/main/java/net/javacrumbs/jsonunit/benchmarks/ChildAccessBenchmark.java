@@ -0,0 +1,72 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Node.KeyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Accesses the same children repeatedly, the same way the comparison does, fields are iterated and then
+ * looked up by name. Run with the GC profiler, gc.alloc.rate.norm shows how many bytes are allocated
+ * by wrapping the children.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// the fields are initialized by JMH
+@SuppressWarnings("NullAway.Init")
+public class ChildAccessBenchmark {
+    private Node root;
+
+    @Setup
+    public void setUp(LibraryState library) {
+        library.select();
+        root = JsonUtils.convertToJson(Documents.document(Documents.Size.MEDIUM, false), "actual");
+    }
+
+    @Benchmark
+    public void accessChildren(Blackhole blackhole) {
+        Iterator<Node> items = root.get("items").arrayElements();
+        while (items.hasNext()) {
+            Node item = items.next();
+            Iterator<KeyValue> fields = item.fields();
+            while (fields.hasNext()) {
+                KeyValue field = fields.next();
+                blackhole.consume(item.get(field.getKey()));
+                blackhole.consume(field.getValue().getNodeType());
+            }
+            blackhole.consume(item.get("address").get("city"));
+            blackhole.consume(item.get("tags").element(1));
+        }
+    }
+}
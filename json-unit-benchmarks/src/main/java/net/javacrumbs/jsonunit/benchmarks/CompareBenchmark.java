@@ -0,0 +1,98 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.Option;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares documents, either including parsing, the way assertions do it, or already parsed ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// the fields are initialized by JMH
+@SuppressWarnings("NullAway.Init")
+public class CompareBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Documents.Size size;
+
+    @Param({"true", "false"})
+    public boolean equal;
+
+    @Param({"false", "true"})
+    public boolean failFast;
+
+    @Param({"NONE", "IGNORED_PATHS", "ARRAY_ORDER_IN_PATH"})
+    public Documents.PathOptions pathOptions;
+
+    private String expected;
+
+    private String actual;
+
+    private Configuration configuration;
+
+    private CompiledConfiguration compiledConfiguration;
+
+    private Node expectedNode;
+
+    private Node actualNode;
+
+    @Setup
+    public void setUp(LibraryState library) {
+        library.select();
+        expected = Documents.document(size, false);
+        actual = Documents.document(size, !equal);
+        Configuration base = failFast ? Configuration.empty().withOptions(Option.FAIL_FAST) : Configuration.empty();
+        configuration = pathOptions.configure(base);
+        compiledConfiguration = CompiledConfiguration.compile(configuration);
+        expectedNode = compiledConfiguration.convertExpected(expected);
+        actualNode = compiledConfiguration.convertActual(actual, "actual");
+    }
+
+    @Benchmark
+    public boolean parseAndCompare() {
+        return Diff.create(expected, actual, "actual", "", configuration).similar();
+    }
+
+    /**
+     * The nodes are parsed only once, libraries caching child nodes are compared warm.
+     */
+    @Benchmark
+    public boolean compareParsed() {
+        return Diff.create(expectedNode, actualNode, Path.root(), compiledConfiguration)
+                .similar();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.ConfigurationWhen;
+import net.javacrumbs.jsonunit.core.Option;
+
+/**
+ * Generated documents used by the benchmarks. A document is an object with an array of items, each item
+ * contains strings, numbers, booleans, a nested object and an array.
+ */
+public final class Documents {
+    private static final String LIBRARIES_PROPERTY_NAME = "json-unit.libraries";
+
+    private Documents() {
+        // nothing
+    }
+
+    public enum Size {
+        SMALL(1),
+        MEDIUM(100),
+        LARGE(10_000);
+
+        private final int items;
+
+        Size(int items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * Paths options applied in the comparison, the paths exist in all the documents.
+     */
+    public enum PathOptions {
+        NONE {
+            @Override
+            Configuration configure(Configuration configuration) {
+                return configuration;
+            }
+        },
+        IGNORED_PATHS {
+            @Override
+            Configuration configure(Configuration configuration) {
+                return configuration.whenIgnoringPaths("items[*].address.zip", "**.created");
+            }
+        },
+        ARRAY_ORDER_IN_PATH {
+            @Override
+            Configuration configure(Configuration configuration) {
+                return configuration.when(
+                        ConfigurationWhen.path("items[*].tags"), ConfigurationWhen.then(Option.IGNORING_ARRAY_ORDER));
+            }
+        };
+
+        abstract Configuration configure(Configuration configuration);
+    }
+
+    /**
+     * Returns the document, in the different one every tenth item has a different name.
+     */
+    static String document(Size size, boolean different) {
+        StringBuilder json = new StringBuilder(size.items * 200);
+        json.append("{\"total\":").append(size.items).append(",\"items\":[");
+        for (int i = 0; i < size.items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String name = different && i % 10 == 0 ? "changed-" + i : "item-" + i;
+            json.append("{\"id\":")
+                    .append(i)
+                    .append(",\"name\":\"")
+                    .append(name)
+                    .append("\",\"price\":")
+                    .append(i)
+                    .append(".25,\"active\":")
+                    .append(i % 2 == 0)
+                    .append(",\"created\":\"2024-01-")
+                    .append(10 + i % 20)
+                    .append("T10:15:30Z\",\"address\":{\"street\":\"Main street ")
+                    .append(i)
+                    .append("\",\"city\":\"Prague\",\"zip\":\"1")
+                    .append(i % 10_000)
+                    .append("\"},\"tags\":[\"a\",\"b\",\"c\"],\"note\":null}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Selects the library used to parse the documents. The library is selected when JsonUnit is initialized,
+     * so it has to be called before any document is parsed. It works only in forked benchmarks, every
+     * combination of parameters runs in a new JVM.
+     */
+    static void selectLibrary(String library) {
+        System.setProperty(LIBRARIES_PROPERTY_NAME, library);
+    }
+}
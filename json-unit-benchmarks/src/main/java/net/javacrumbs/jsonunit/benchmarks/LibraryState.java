@@ -0,0 +1,39 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Library used to parse the documents, shared by all the benchmarks.
+ */
+@State(Scope.Benchmark)
+// the fields are initialized by JMH
+@SuppressWarnings("NullAway.Init")
+public class LibraryState {
+    // tape can not convert objects, so it is combined with Jackson
+    @Param({"jackson2", "jackson3", "gson", "moshi", "json.org", "johnzon", "kotlinx", "tape,jackson2"})
+    public String library;
+
+    /**
+     * See {@link Documents#selectLibrary(String)}.
+     */
+    void select() {
+        Documents.selectLibrary(library);
+    }
+}
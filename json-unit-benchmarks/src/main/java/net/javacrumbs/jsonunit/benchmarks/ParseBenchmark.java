@@ -0,0 +1,98 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Node.KeyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses documents by each of the supported libraries. Some of the libraries are lazy, so the document
+ * is traversed as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// the fields are initialized by JMH
+@SuppressWarnings("NullAway.Init")
+public class ParseBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Documents.Size size;
+
+    private String json;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp(LibraryState library) {
+        library.select();
+        json = Documents.document(size, false);
+        bytes = json.getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public int parseString() {
+        return traverse(JsonUtils.convertToJson(json, "actual"));
+    }
+
+    @Benchmark
+    public int parseBytes() {
+        return traverse(JsonUtils.convertToJson(bytes, "actual"));
+    }
+
+    /**
+     * Visits all the nodes, returns their count.
+     */
+    static int traverse(Node node) {
+        int count = 1;
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                Iterator<KeyValue> fields = node.fields();
+                while (fields.hasNext()) {
+                    count += traverse(fields.next().getValue());
+                }
+            }
+            case ARRAY -> {
+                Iterator<Node> elements = node.arrayElements();
+                while (elements.hasNext()) {
+                    count += traverse(elements.next());
+                }
+            }
+            default -> {
+                // leaf
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Node wrapping a node of an underlying library that wraps each child only once.
+ * Diff navigates to the same child several times, without the cache new wrapper would be allocated on every access.
+ *
+ * The caches are filled lazily. If the node is accessed concurrently, a child may be wrapped more than once,
+ * which is harmless as the wrappers are immutable.
+ */
+abstract class AbstractCachingNode extends AbstractNode {
+    private volatile @Nullable Map<String, KeyValue> fieldCache;
+
+    private volatile @Nullable Map<String, Node> childCache;
+
+    private volatile @Nullable Node @Nullable [] elementCache;
+
+    /**
+     * Wraps all fields of the object.
+     */
+    protected abstract Iterator<KeyValue> wrapFields();
+
+    /**
+     * Wraps value of the field of the object, returns MISSING_NODE if there is no such field.
+     */
+    protected abstract Node wrapField(String key);
+
+    /**
+     * Wraps array element, the index is always within array bounds.
+     */
+    protected abstract Node wrapElement(int index);
+
+    @Override
+    public Iterator<KeyValue> fields() {
+        return cachedFields().values().iterator();
+    }
+
+    /**
+     * Children are wrapped one by one, so that looking up a single key does not wrap the whole object.
+     */
+    @Override
+    public Node get(String key) {
+        if (!isObject()) {
+            return MISSING_NODE;
+        }
+        Map<String, KeyValue> fields = fieldCache;
+        if (fields != null) {
+            KeyValue keyValue = fields.get(key);
+            return keyValue != null ? keyValue.getValue() : MISSING_NODE;
+        }
+        Map<String, Node> children = childCache;
+        if (children == null) {
+            children = new ConcurrentHashMap<>();
+            childCache = children;
+        }
+        Node child = children.get(key);
+        if (child == null) {
+            child = wrapField(key);
+            children.put(key, child);
+        }
+        return child;
+    }
+
+    private Map<String, KeyValue> cachedFields() {
+        Map<String, KeyValue> fields = fieldCache;
+        if (fields == null) {
+            // reuse children that have already been wrapped
+            Map<String, Node> children = childCache;
+            Map<String, KeyValue> wrapped = new LinkedHashMap<>();
+            Iterator<KeyValue> iterator = wrapFields();
+            while (iterator.hasNext()) {
+                KeyValue keyValue = iterator.next();
+                Node child = children != null ? children.get(keyValue.getKey()) : null;
+                wrapped.put(keyValue.getKey(), child != null ? new KeyValue(keyValue.getKey(), child) : keyValue);
+            }
+            fields = Collections.unmodifiableMap(wrapped);
+            fieldCache = fields;
+            childCache = null;
+        }
+        return fields;
+    }
+
+    @Override
+    public Node element(int index) {
+        if (getNodeType() != NodeType.ARRAY) {
+            return MISSING_NODE;
+        }
+        @Nullable Node[] elements = elementCache;
+        if (elements == null) {
+            elements = new Node[size()];
+            elementCache = elements;
+        }
+        if (index < 0 || index >= elements.length) {
+            return MISSING_NODE;
+        }
+        Node element = elements[index];
+        if (element == null) {
+            element = wrapElement(index);
+            elements[index] = element;
+        }
+        return element;
+    }
+
+    @Override
+    public Iterator<Node> arrayElements() {
+        if (getNodeType() != NodeType.ARRAY) {
+            return Collections.emptyIterator();
+        }
+        int size = size();
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Node next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return element(index++);
+            }
+        };
+    }
+}
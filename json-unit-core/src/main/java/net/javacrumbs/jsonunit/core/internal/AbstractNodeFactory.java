@@ -15,11 +15,22 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static net.javacrumbs.jsonunit.core.internal.Utils.closeQuietly;
 import static net.javacrumbs.jsonunit.core.internal.Utils.toReader;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import net.javacrumbs.jsonunit.core.internal.Utils.ByteBufferInputStream;
+import net.javacrumbs.jsonunit.core.internal.Utils.JsonBytesReader;
 import net.javacrumbs.jsonunit.core.internal.Utils.JsonStringReader;
 import org.jspecify.annotations.Nullable;
 
@@ -27,6 +38,11 @@ import org.jspecify.annotations.Nullable;
  * Common superclass for node factories
  */
 abstract class AbstractNodeFactory implements NodeFactory {
+    /**
+     * Number of bytes of binary input shown in parse error messages.
+     */
+    private static final int MAX_EXCERPT_LENGTH = 200;
+
     @Override
     public Node convertToNode(@Nullable Object source, String label, boolean lenient) {
         if (source == null) {
@@ -41,11 +57,63 @@ abstract class AbstractNodeFactory implements NodeFactory {
             } finally {
                 closeQuietly(reader);
             }
+        } else if (source instanceof byte[] bytes) {
+            return readValue(bytes, 0, bytes.length, label, lenient);
+        } else if (source instanceof ByteBuffer byteBuffer) {
+            return readValue(byteBuffer, label, lenient);
+        } else if (source instanceof InputStream stream) {
+            try {
+                return readValue(stream, label, lenient);
+            } finally {
+                closeQuietly(stream);
+            }
+        } else if (source instanceof java.nio.file.Path file) {
+            return readValue(file, label, lenient);
         } else {
             return convertValue(source);
         }
     }
 
+    /**
+     * Parses UTF-8 encoded JSON stored in remaining bytes of the buffer. Heap buffers are passed to
+     * {@link #readValue(byte[], int, int, String, boolean)}, direct and memory mapped buffers are read as a stream.
+     * Override if the library is able to read the buffer directly.
+     */
+    protected Node readValue(ByteBuffer byteBuffer, String label, boolean lenient) {
+        if (byteBuffer.hasArray()) {
+            return readValue(
+                    byteBuffer.array(),
+                    byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining(),
+                    label,
+                    lenient);
+        } else {
+            // duplicate so that the position of the buffer passed by the user is not changed
+            return readValue(new ByteBufferInputStream(byteBuffer.duplicate()), label, lenient);
+        }
+    }
+
+    /**
+     * Files are memory mapped so that their content does not have to be copied to the heap.
+     * Only Jackson, Moshi, Johnzon and tape read the mapped bytes directly, Gson and json.org
+     * decode them through a Reader and kotlinx reads them to a String. The mapping is released only when
+     * the buffer is garbage collected, so on Windows the file can not be deleted or overwritten until then.
+     */
+    private Node readValue(java.nio.file.Path file, String label, boolean lenient) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= Integer.MAX_VALUE) {
+                // the mapping remains valid after the channel is closed
+                return readValue(channel.map(MapMode.READ_ONLY, 0, size), label, lenient);
+            } else {
+                // too big to be mapped into a single buffer
+                return readValue(Channels.newInputStream(channel), label, lenient);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can not read " + label + " value from '" + file + "'.", e);
+        }
+    }
+
     final Node convertValue(Object source) {
         if (source instanceof BigDecimal bigDecimal) {
             return new GenericNodeBuilder.NumberNode(bigDecimal);
@@ -57,11 +125,28 @@ abstract class AbstractNodeFactory implements NodeFactory {
     protected IllegalArgumentException newParseException(String label, Reader value, Exception e) {
         if (value instanceof JsonStringReader reader) {
             return new IllegalArgumentException("Can not parse " + label + " value: '" + reader.getString() + "'", e);
+        } else if (value instanceof JsonBytesReader reader) {
+            return newParseException(label, reader.getBytes(), reader.getOffset(), reader.getLength(), e);
         } else {
-            return new IllegalArgumentException("Can not parse " + label + " value.", e);
+            return newParseException(label, e);
         }
     }
 
+    /**
+     * Creates exception for unparseable in-memory bytes. Only the beginning of the content is included in the message
+     * so that the message stays readable even for big documents.
+     */
+    protected IllegalArgumentException newParseException(
+            String label, byte[] bytes, int offset, int length, Exception e) {
+        String excerpt = new String(bytes, offset, Math.min(length, MAX_EXCERPT_LENGTH), UTF_8);
+        String suffix = length > MAX_EXCERPT_LENGTH ? "..." : "";
+        return new IllegalArgumentException("Can not parse " + label + " value: '" + excerpt + suffix + "'", e);
+    }
+
+    protected IllegalArgumentException newParseException(String label, Exception e) {
+        return new IllegalArgumentException("Can not parse " + label + " value.", e);
+    }
+
     protected abstract Node doConvertValue(Object source);
 
     protected abstract Node readValue(Reader reader, String label, boolean lenient);
@@ -70,5 +155,21 @@ abstract class AbstractNodeFactory implements NodeFactory {
         return readValue(toReader(source), label, lenient);
     }
 
+    /**
+     * Parses UTF-8 encoded JSON. Override if the library is able to parse bytes without decoding them to chars first.
+     */
+    protected Node readValue(InputStream stream, String label, boolean lenient) {
+        return readValue(new InputStreamReader(stream, UTF_8), label, lenient);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON stored in given part of the array. Overrides should use
+     * {@link #newParseException(String, byte[], int, int, Exception)} so that the content is shown in the error
+     * message.
+     */
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        return readValue(new JsonBytesReader(bytes, offset, length), label, lenient);
+    }
+
     protected abstract Node nullNode();
 }
@@ -16,6 +16,7 @@
 package net.javacrumbs.jsonunit.core.internal;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import net.javacrumbs.jsonunit.core.Configuration;
 
@@ -24,8 +25,13 @@ class ArrayComparison {
     private final List<Node> actualElements;
     private final List<Node> expectedElements;
 
-    ArrayComparison(List<Node> expectedElements, List<Node> actualElements, Path path, Configuration configuration) {
-        comparisonMatrix = new ComparisonMatrix(expectedElements, actualElements, path, configuration);
+    ArrayComparison(
+            List<Node> expectedElements,
+            List<Node> actualElements,
+            Path path,
+            Configuration configuration,
+            BooleanSupplier cancellation) {
+        comparisonMatrix = new ComparisonMatrix(expectedElements, actualElements, path, configuration, cancellation);
         this.actualElements = actualElements;
         this.expectedElements = expectedElements;
     }
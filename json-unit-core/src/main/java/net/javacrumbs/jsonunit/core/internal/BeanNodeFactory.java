@@ -0,0 +1,284 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Exposes properties of records and Java beans as object nodes without serializing the whole object graph.
+ * Property values are read only when the comparison needs them.
+ *
+ * Unlike Jackson, the adapter does not know anything about annotations, so it has to be enabled explicitly.
+ */
+class BeanNodeFactory implements NodeFactory {
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Properties> properties = new ClassValue<>() {
+        @Override
+        protected Properties computeValue(Class<?> type) {
+            return Properties.of(type);
+        }
+    };
+
+    private final NodeBuilder nodeBuilder;
+
+    /**
+     * @param nodeBuilder used to convert values of the properties
+     */
+    BeanNodeFactory(NodeBuilder nodeBuilder) {
+        this.nodeBuilder = nodeBuilder;
+    }
+
+    @Override
+    public boolean isPreferredFor(Class<?> type) {
+        return properties.get(type).supported();
+    }
+
+    @Override
+    public Node convertToNode(@Nullable Object source, String label, boolean lenient) {
+        if (source == null) {
+            return nodeBuilder.newNode(null);
+        }
+        return new BeanNode(source, properties.get(source.getClass()), nodeBuilder);
+    }
+
+    /**
+     * Accessors of the properties of a class, in the order they should be serialized.
+     */
+    record Properties(Map<String, Property> byName, List<Property> list, boolean supported) {
+        private static final Properties UNSUPPORTED = new Properties(Map.of(), List.of(), false);
+
+        private static Properties of(Class<?> type) {
+            if (!isBeanCandidate(type)) {
+                return UNSUPPORTED;
+            }
+            try {
+                Map<String, MethodHandle> accessors = type.isRecord() ? recordAccessors(type) : beanAccessors(type);
+                if (accessors.isEmpty()) {
+                    return UNSUPPORTED;
+                }
+                Map<String, Property> byName = new LinkedHashMap<>();
+                for (Map.Entry<String, MethodHandle> accessor : accessors.entrySet()) {
+                    byName.put(accessor.getKey(), new Property(accessor.getKey(), byName.size(), accessor.getValue()));
+                }
+                return new Properties(byName, List.copyOf(byName.values()), true);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // not accessible, let the JSON library deal with it
+                return UNSUPPORTED;
+            }
+        }
+
+        private static boolean isBeanCandidate(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()) {
+                return false;
+            }
+            String name = type.getName();
+            return !name.startsWith("java.")
+                    && !name.startsWith("javax.")
+                    && !name.startsWith("jdk.")
+                    && !name.startsWith("sun.")
+                    && !name.startsWith("kotlin.")
+                    && !Node.class.isAssignableFrom(type);
+        }
+
+        private static Map<String, MethodHandle> recordAccessors(Class<?> type) throws IllegalAccessException {
+            Map<String, MethodHandle> accessors = new LinkedHashMap<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                accessors.put(component.getName(), accessor(component.getAccessor()));
+            }
+            return accessors;
+        }
+
+        /**
+         * Public getters and public fields, properties are sorted by name.
+         */
+        private static Map<String, MethodHandle> beanAccessors(Class<?> type) throws IllegalAccessException {
+            Map<String, MethodHandle> accessors = new TreeMap<>();
+            for (Field field : type.getFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    accessors.put(field.getName(), accessor(field));
+                }
+            }
+            // getters take precedence over fields
+            for (Method method : type.getMethods()) {
+                String name = propertyName(method);
+                if (name != null) {
+                    accessors.put(name, accessor(method));
+                }
+            }
+            return accessors;
+        }
+
+        private static @Nullable String propertyName(Method method) {
+            if (Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() != 0
+                    || method.getDeclaringClass() == Object.class) {
+                return null;
+            }
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {
+                return decapitalize(name.substring(3));
+            } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                return decapitalize(name.substring(2));
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Lower-cases leading upper case characters, the same way as Jackson does by default, getURL -> url
+         */
+        private static String decapitalize(String name) {
+            StringBuilder result = new StringBuilder(name);
+            for (int i = 0; i < result.length() && Character.isUpperCase(result.charAt(i)); i++) {
+                result.setCharAt(i, Character.toLowerCase(result.charAt(i)));
+            }
+            return result.toString();
+        }
+
+        private static MethodHandle accessor(Member member) throws IllegalAccessException {
+            MethodHandle handle;
+            if (member instanceof Method method) {
+                method.trySetAccessible();
+                handle = MethodHandles.lookup().unreflect(method);
+            } else {
+                Field field = (Field) member;
+                field.trySetAccessible();
+                handle = MethodHandles.lookup().unreflectGetter(field);
+            }
+            return handle.asType(ACCESSOR_TYPE);
+        }
+    }
+
+    private record Property(String name, int index, MethodHandle accessor) {
+        @Nullable
+        Object read(Object bean) {
+            try {
+                return (Object) accessor.invokeExact(bean);
+            } catch (Throwable e) {
+                throw new IllegalStateException(
+                        "Can not read property '" + name + "' of "
+                                + bean.getClass().getName(),
+                        e);
+            }
+        }
+    }
+
+    static final class BeanNode extends GenericNodeBuilder.NodeSkeleton {
+        private final Object bean;
+        private final Properties properties;
+        private final NodeBuilder nodeBuilder;
+
+        // property values are read only once
+        private final @Nullable Node[] values;
+
+        BeanNode(Object bean, Properties properties, NodeBuilder nodeBuilder) {
+            this.bean = bean;
+            this.properties = properties;
+            this.nodeBuilder = nodeBuilder;
+            this.values = new Node[properties.list().size()];
+        }
+
+        private Node value(int index) {
+            Node value = values[index];
+            if (value == null) {
+                value = nodeBuilder.newNode(properties.list().get(index).read(bean));
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public Iterator<KeyValue> fields() {
+            return new Iterator<>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < values.length;
+                }
+
+                @Override
+                public KeyValue next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    String name = properties.list().get(index).name();
+                    return new KeyValue(name, value(index++));
+                }
+            };
+        }
+
+        @Override
+        public Node get(String key) {
+            Property property = properties.byName().get(key);
+            if (property != null) {
+                return value(property.index());
+            } else {
+                return MISSING_NODE;
+            }
+        }
+
+        @Override
+        public boolean isObject() {
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public NodeType getNodeType() {
+            return NodeType.OBJECT;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("{");
+            Iterator<KeyValue> entries = fields();
+            while (entries.hasNext()) {
+                KeyValue entry = entries.next();
+                builder.append('"')
+                        .append(entry.getKey())
+                        .append('"')
+                        .append(":")
+                        .append(entry.getValue());
+                if (entries.hasNext()) {
+                    builder.append(",");
+                }
+            }
+            builder.append("}");
+            return builder.toString();
+        }
+    }
+}
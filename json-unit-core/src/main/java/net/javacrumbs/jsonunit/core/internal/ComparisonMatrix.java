@@ -25,6 +25,7 @@ import static net.javacrumbs.jsonunit.core.internal.JsonUnitLogger.NULL_LOGGER;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import net.javacrumbs.jsonunit.core.Configuration;
 import org.jspecify.annotations.Nullable;
 
@@ -60,9 +61,14 @@ class ComparisonMatrix {
         this.actualElements = actualElements;
     }
 
-    ComparisonMatrix(List<Node> expectedElements, List<Node> actualElements, Path path, Configuration configuration) {
+    ComparisonMatrix(
+            List<Node> expectedElements,
+            List<Node> actualElements,
+            Path path,
+            Configuration configuration,
+            BooleanSupplier cancellation) {
         this(
-                generateEqualElements(expectedElements, actualElements, path, configuration),
+                generateEqualElements(expectedElements, actualElements, path, configuration, cancellation),
                 0,
                 new Integer[expectedElements.size()],
                 new ArrayList<>(),
@@ -72,7 +78,11 @@ class ComparisonMatrix {
     }
 
     private static List<List<Integer>> generateEqualElements(
-            List<Node> expectedElements, List<Node> actualElements, Path path, Configuration configuration) {
+            List<Node> expectedElements,
+            List<Node> actualElements,
+            Path path,
+            Configuration configuration,
+            BooleanSupplier cancellation) {
         List<List<Integer>> equalElements = new ArrayList<>(actualElements.size());
 
         // Compare all elements
@@ -82,7 +92,7 @@ class ComparisonMatrix {
 
             for (int j = 0; j < expectedElements.size(); j++) {
                 Node expected = expectedElements.get(j);
-                boolean similar = isSimilar(path, configuration, expected, actual, i);
+                boolean similar = isSimilar(path, configuration, cancellation, expected, actual, i);
                 if (similar) {
                     actualIsEqualTo.add(j);
                 }
@@ -94,7 +104,8 @@ class ComparisonMatrix {
         return equalElements;
     }
 
-    private static boolean isSimilar(Path path, Configuration configuration, Node expected, Node actual, int i) {
+    private static boolean isSimilar(
+            Path path, Configuration configuration, BooleanSupplier cancellation, Node expected, Node actual, int i) {
         Diff diff = new Diff(
                 expected,
                 actual,
@@ -102,7 +113,8 @@ class ComparisonMatrix {
                 configuration.withDifferenceListener(dummyDifferenceListener()).withOptions(FAIL_FAST),
                 NULL_LOGGER,
                 NULL_LOGGER,
-                DEFAULT_DIFFERENCE_STRING);
+                DEFAULT_DIFFERENCE_STRING,
+                cancellation);
 
         return diff.similar();
     }
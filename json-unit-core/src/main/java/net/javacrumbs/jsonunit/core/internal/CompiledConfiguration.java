@@ -0,0 +1,166 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertExpectedToJson;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertToJson;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.quoteIfNeeded;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.Option;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Configuration prepared for many comparisons. Ignored paths and path options are compiled only once.
+ *
+ * If the configuration requires exact match, {@link #exactHash(Node, Path)} can be used to reject
+ * different values without comparing them.
+ */
+public final class CompiledConfiguration {
+    private final Configuration configuration;
+    private final PathMatcher pathsToBeIgnored;
+    private final Map<Option, List<PathOptionMatcher>> specificPathOptions;
+    private final boolean exact;
+
+    private CompiledConfiguration(Configuration configuration) {
+        this.configuration = configuration;
+        this.pathsToBeIgnored = PathMatcher.create(configuration.getPathsToBeIgnored());
+        this.specificPathOptions = configuration.getPathOptions().stream()
+                .flatMap(PathOptionMatcher::createMatchersFromPathOption)
+                .collect(Collectors.groupingBy(PathOptionMatcher::getOption));
+        this.exact = configuration.getOptions().stream().allMatch(CompiledConfiguration::doesNotAffectEquality)
+                && configuration.getPathOptions().isEmpty()
+                && configuration.getPathsToBeIgnored().isEmpty()
+                && configuration.getTolerance() == null
+                && configuration.getNumberComparator().getClass() == DefaultNumberComparator.class;
+    }
+
+    private static boolean doesNotAffectEquality(Option option) {
+        return option == Option.FAIL_FAST || option == Option.REPORTING_DIFFERENCE_AS_NORMALIZED_STRING;
+    }
+
+    public static CompiledConfiguration compile(Configuration configuration) {
+        return new CompiledConfiguration(configuration);
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    PathMatcher pathsToBeIgnored() {
+        return pathsToBeIgnored;
+    }
+
+    Map<Option, List<PathOptionMatcher>> specificPathOptions() {
+        return specificPathOptions;
+    }
+
+    /**
+     * Converts expected value the same way as {@link Diff#create(Object, Object, String, Path, Configuration)}.
+     */
+    public Node convertExpected(@Nullable Object expected) {
+        return convertExpectedToJson(quoteIfNeeded(expected), "expected");
+    }
+
+    /**
+     * Converts actual value the same way as {@link Diff#create(Object, Object, String, Path, Configuration)}.
+     */
+    public Node convertActual(@Nullable Object actual, String actualName) {
+        return convertToJson(actual, actualName, false);
+    }
+
+    /**
+     * Returns hash of the node in given path. Nodes that are equal under this configuration have the same hash,
+     * so nodes with different hashes can not match. Returns null if the configuration does not require exact match,
+     * the node is missing or contains a placeholder.
+     */
+    public @Nullable Integer exactHash(Node root, Path path) {
+        if (!exact) {
+            return null;
+        }
+        Node node = path.getNode(root);
+        if (node.isMissingNode() || containsPlaceholder(node)) {
+            return null;
+        }
+        return hash(node);
+    }
+
+    private boolean containsPlaceholder(Node node) {
+        return switch (node.getNodeType()) {
+            case OBJECT -> {
+                Iterator<Node.KeyValue> fields = node.fields();
+                while (fields.hasNext()) {
+                    if (containsPlaceholder(fields.next().getValue())) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            case ARRAY -> {
+                Iterator<Node> elements = node.arrayElements();
+                while (elements.hasNext()) {
+                    if (containsPlaceholder(elements.next())) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            case STRING -> {
+                String text = node.asText();
+                yield text.startsWith("${json-unit.")
+                        || text.startsWith("#{json-unit.")
+                        || configuration.shouldIgnore(text);
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * Field order is not significant, element order is. Numbers are compared including scale.
+     */
+    private static int hash(Node node) {
+        Node.NodeType type = node.getNodeType();
+        int hash =
+                switch (type) {
+                    case OBJECT -> {
+                        int result = 0;
+                        Iterator<Node.KeyValue> fields = node.fields();
+                        while (fields.hasNext()) {
+                            Node.KeyValue field = fields.next();
+                            result += field.getKey().hashCode() ^ hash(field.getValue());
+                        }
+                        yield result;
+                    }
+                    case ARRAY -> {
+                        int result = 1;
+                        Iterator<Node> elements = node.arrayElements();
+                        while (elements.hasNext()) {
+                            result = 31 * result + hash(elements.next());
+                        }
+                        yield result;
+                    }
+                    case STRING -> node.asText().hashCode();
+                    case NUMBER -> node.decimalValue().hashCode();
+                    case BOOLEAN -> node.asBoolean().hashCode();
+                    default -> 0;
+                };
+        return 31 * type.name().hashCode() + hash;
+    }
+}
@@ -15,18 +15,26 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
+import static java.util.Objects.requireNonNull;
 import static net.javacrumbs.jsonunit.core.internal.ClassUtils.isClassPresent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import net.javacrumbs.jsonunit.providers.JsonValueConverter;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Converts object to Node using {@link NodeFactory}.
  */
-record Converter(List<NodeFactory> factories) {
+final class Converter {
     static final String LIBRARIES_PROPERTY_NAME = "json-unit.libraries";
 
+    private static final String BEANS = "beans";
+
     private static final boolean jackson2Present = isClassPresent("com.fasterxml.jackson.databind.ObjectMapper")
             && isClassPresent("com.fasterxml.jackson.core.JsonGenerator");
 
@@ -40,10 +48,68 @@ record Converter(List<NodeFactory> factories) {
 
     private static final boolean johnzonPresent = isClassPresent("org.apache.johnzon.mapper.Mapper");
 
-    Converter {
+    private static final boolean kotlinxPresent = isClassPresent("kotlinx.serialization.json.JsonElement");
+
+    private final List<NodeFactory> factories;
+
+    private final List<JsonValueConverter<?>> valueConverters;
+
+    /**
+     * The factory depends only on the type of the source so it's resolved only once per class.
+     */
+    private final ClassValue<NodeFactory> factoriesByType = new ClassValue<>() {
+        @Override
+        protected NodeFactory computeValue(Class<?> type) {
+            for (JsonValueConverter<?> valueConverter : valueConverters) {
+                if (valueConverter.getSupportedType().isAssignableFrom(type)) {
+                    return new ValueConverterNodeFactory<>(valueConverter);
+                }
+            }
+            return findBestFactory(type);
+        }
+    };
+
+    /**
+     * Wraps values returned by value converters and bean properties lazily, values of other types are converted again.
+     */
+    private final NodeBuilder valueNodeBuilder = new GenericNodeBuilder() {
+        @Override
+        public Node newNode(@Nullable Object object) {
+            if (object == null
+                    || object instanceof Map
+                    || object instanceof List
+                    || object instanceof Object[]
+                    || object instanceof Number
+                    || object instanceof String
+                    || object instanceof Boolean
+                    || object instanceof Node) {
+                return super.newNode(object);
+            } else if (object instanceof Collection<?> collection) {
+                return super.newNode(new ArrayList<>(collection));
+            } else if (object instanceof Enum<?> value) {
+                return super.newNode(value.name());
+            } else {
+                return convertToNode(object, "", false);
+            }
+        }
+    };
+
+    private final @Nullable BeanNodeFactory beanNodeFactory;
+
+    Converter(List<NodeFactory> factories) {
+        this(factories, List.of(), false);
+    }
+
+    /**
+     * @param lazyBeans if true, records and beans not handled by any other factory are wrapped by {@link BeanNodeFactory}
+     */
+    Converter(List<NodeFactory> factories, List<JsonValueConverter<?>> valueConverters, boolean lazyBeans) {
         if (factories.isEmpty()) {
             throw new IllegalStateException("List of factories can not be empty");
         }
+        this.factories = List.copyOf(factories);
+        this.valueConverters = List.copyOf(valueConverters);
+        this.beanNodeFactory = lazyBeans ? new BeanNodeFactory(valueNodeBuilder) : null;
     }
 
     /**
@@ -52,25 +118,42 @@ record Converter(List<NodeFactory> factories) {
     static Converter createDefaultConverter() {
         List<NodeFactory> factories;
         String property = System.getProperty(LIBRARIES_PROPERTY_NAME);
+        List<String> libraries = property != null ? parseLibraries(property) : List.of();
+        boolean lazyBeans = libraries.contains(BEANS);
 
-        if (property != null && !property.trim().isEmpty()) {
-            factories = createFactoriesSpecifiedInProperty(property);
+        if (libraries.stream().anyMatch(library -> !library.equals(BEANS))) {
+            factories = createFactoriesSpecifiedInProperty(libraries);
         } else {
             factories = createDefaultFactories();
         }
 
         if (factories.isEmpty()) {
             throw new IllegalStateException(
-                    "Please add either json.org, Moshi, Jackson 2.x, Johnzon or Gson to the classpath");
+                    "Please add either json.org, Moshi, Jackson 2.x, Johnzon, Gson or kotlinx.serialization to the classpath");
         }
-        return new Converter(factories);
+        return new Converter(factories, loadValueConverters(), lazyBeans);
     }
 
     @SuppressWarnings({"StringSplitter", "StringCaseLocaleUsage"})
-    private static List<NodeFactory> createFactoriesSpecifiedInProperty(String property) {
+    private static List<String> parseLibraries(String property) {
+        return Arrays.stream(property.toLowerCase().split(","))
+                .map(String::trim)
+                .filter(library -> !library.isEmpty())
+                .toList();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static List<JsonValueConverter<?>> loadValueConverters() {
+        List<JsonValueConverter<?>> valueConverters = new ArrayList<>();
+        for (JsonValueConverter<?> valueConverter : ServiceLoader.load(JsonValueConverter.class)) {
+            valueConverters.add(valueConverter);
+        }
+        return valueConverters;
+    }
+
+    private static List<NodeFactory> createFactoriesSpecifiedInProperty(List<String> libraries) {
         List<NodeFactory> factories = new ArrayList<>();
-        for (String factoryName : property.toLowerCase().split(",")) {
-            factoryName = factoryName.trim();
+        for (String factoryName : libraries) {
             switch (factoryName) {
                 case "moshi" -> factories.add(new MoshiNodeFactory());
                 case "json.org" -> factories.add(new JsonOrgNodeFactory());
@@ -78,6 +161,11 @@ record Converter(List<NodeFactory> factories) {
                 case "jackson3" -> factories.add(new Jackson3NodeFactory());
                 case "gson" -> factories.add(new GsonNodeFactory());
                 case "johnzon" -> factories.add(new JohnzonNodeFactory());
+                case "tape" -> factories.add(new TapeNodeFactory());
+                case "kotlinx" -> factories.add(new KotlinxNodeFactory());
+                case BEANS -> {
+                    // not a library, handled by the converter
+                }
                 default -> throw new IllegalArgumentException("'" + factoryName + "' library name not recognized.");
             }
         }
@@ -86,6 +174,11 @@ record Converter(List<NodeFactory> factories) {
 
     private static List<NodeFactory> createDefaultFactories() {
         List<NodeFactory> factories = new ArrayList<>();
+        // can not serialize arbitrary objects, has to be used only for JsonElements
+        if (kotlinxPresent) {
+            factories.add(new KotlinxNodeFactory());
+        }
+
         if (moshiPresent) {
             factories.add(new MoshiNodeFactory());
         }
@@ -112,16 +205,57 @@ record Converter(List<NodeFactory> factories) {
         return factories;
     }
 
+    List<NodeFactory> factories() {
+        return factories;
+    }
+
     Node convertToNode(@Nullable Object source, String label, boolean lenient) {
-        return findBestFactory(source).convertToNode(source, label, lenient);
+        if (source == null) {
+            return factories.get(factories.size() - 1).convertToNode(null, label, lenient);
+        }
+        return factoriesByType.get(source.getClass()).convertToNode(source, label, lenient);
+    }
+
+    private NodeFactory findBestFactory(Class<?> type) {
+        for (NodeFactory factory : factories) {
+            if (factory.isPreferredFor(type)) {
+                return factory;
+            }
+        }
+        if (beanNodeFactory != null && beanNodeFactory.isPreferredFor(type)) {
+            return beanNodeFactory;
+        }
+        return factories.get(factories.size() - 1);
     }
 
-    private NodeFactory findBestFactory(@Nullable Object source) {
-        if (factories.size() == 1) return factories.get(0);
+    /**
+     * Converts the value using {@link JsonValueConverter} and converts the result to Node.
+     */
+    private final class ValueConverterNodeFactory<T> implements NodeFactory {
+        private final JsonValueConverter<T> valueConverter;
+
+        private ValueConverterNodeFactory(JsonValueConverter<T> valueConverter) {
+            this.valueConverter = valueConverter;
+        }
 
-        return factories.stream()
-                .filter(factory -> factory.isPreferredFor(source))
-                .findFirst()
-                .orElseGet(() -> factories.get(factories.size() - 1));
+        @Override
+        public boolean isPreferredFor(Class<?> type) {
+            return valueConverter.getSupportedType().isAssignableFrom(type);
+        }
+
+        @Override
+        public Node convertToNode(@Nullable Object source, String label, boolean lenient) {
+            Object converted = valueConverter.convert(
+                    requireNonNull(valueConverter.getSupportedType().cast(source)));
+            if (converted != null && isPreferredFor(converted.getClass())) {
+                throw new IllegalStateException(valueConverter.getClass().getName() + " returned value of type "
+                        + converted.getClass().getName() + " it is supposed to convert.");
+            }
+            if (converted instanceof Map || converted instanceof List) {
+                return valueNodeBuilder.newNode(converted);
+            } else {
+                return Converter.this.convertToNode(converted, label, lenient);
+            }
+        }
     }
 }
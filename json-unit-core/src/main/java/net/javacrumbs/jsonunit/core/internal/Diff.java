@@ -31,6 +31,7 @@ import static net.javacrumbs.jsonunit.core.internal.DifferenceImpl.missing;
 import static net.javacrumbs.jsonunit.core.internal.ExceptionUtils.createException;
 import static net.javacrumbs.jsonunit.core.internal.ExceptionUtils.formatDifferences;
 import static net.javacrumbs.jsonunit.core.internal.JsonUnitLogger.NULL_LOGGER;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertExpectedToJson;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertToJson;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.prettyPrint;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.quoteIfNeeded;
@@ -51,14 +52,21 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.Option;
 import net.javacrumbs.jsonunit.core.internal.ArrayComparison.ComparisonResult;
 import net.javacrumbs.jsonunit.core.internal.ArrayComparison.NodeWithIndex;
 import net.javacrumbs.jsonunit.core.listener.Difference;
+import net.javacrumbs.jsonunit.core.util.DiffBatch;
+import net.javacrumbs.jsonunit.core.util.DiffResult;
+import net.javacrumbs.jsonunit.core.util.DiffSummary;
 import org.jspecify.annotations.Nullable;
 import org.opentest4j.AssertionFailedError;
 
@@ -99,6 +107,9 @@ public class Diff {
     private final JsonUnitLogger valuesLogger;
     private final String differenceString;
 
+    // checked before each node is compared, so cancelled comparisons stop early
+    private final BooleanSupplier cancellation;
+
     Diff(
             Node expected,
             Node actual,
@@ -106,18 +117,38 @@ public class Diff {
             Configuration configuration,
             JsonUnitLogger diffLogger,
             JsonUnitLogger valuesLogger,
-            String differenceString) {
+            String differenceString,
+            BooleanSupplier cancellation) {
+        this(
+                expected,
+                actual,
+                startPath,
+                CompiledConfiguration.compile(configuration),
+                diffLogger,
+                valuesLogger,
+                differenceString,
+                cancellation);
+    }
+
+    Diff(
+            Node expected,
+            Node actual,
+            Path startPath,
+            CompiledConfiguration compiledConfiguration,
+            JsonUnitLogger diffLogger,
+            JsonUnitLogger valuesLogger,
+            String differenceString,
+            BooleanSupplier cancellation) {
         this.expectedRoot = expected;
         this.actualRoot = actual;
         this.startPath = startPath;
-        this.configuration = configuration;
+        this.configuration = compiledConfiguration.getConfiguration();
         this.diffLogger = diffLogger;
         this.valuesLogger = valuesLogger;
-        this.pathsToBeIgnored = PathMatcher.create(configuration.getPathsToBeIgnored());
-        this.specificPathOptions = configuration.getPathOptions().stream()
-                .flatMap(PathOptionMatcher::createMatchersFromPathOption)
-                .collect(Collectors.groupingBy(PathOptionMatcher::getOption));
+        this.pathsToBeIgnored = compiledConfiguration.pathsToBeIgnored();
+        this.specificPathOptions = compiledConfiguration.specificPathOptions();
         this.differenceString = differenceString;
+        this.cancellation = cancellation;
     }
 
     public static Diff create(
@@ -142,6 +173,54 @@ public class Diff {
         return createInternal(expected, actual, actualName, path, configuration, DEFAULT_DIFFERENCE_STRING);
     }
 
+    /**
+     * Compares already converted nodes, see {@link CompiledConfiguration#convertExpected(Object)}
+     * and {@link CompiledConfiguration#convertActual(Object, String)}.
+     */
+    public static Diff create(Node expected, Node actual, Path path, CompiledConfiguration configuration) {
+        return create(expected, actual, path, configuration, Diff::notCancelled);
+    }
+
+    /**
+     * Compares already converted nodes, the comparison stops with {@link CancellationException}
+     * once the cancellation returns true.
+     */
+    public static Diff create(
+            Node expected, Node actual, Path path, CompiledConfiguration configuration, BooleanSupplier cancellation) {
+        return new Diff(
+                expected,
+                actual,
+                path,
+                configuration,
+                DEFAULT_DIFF_LOGGER,
+                DEFAULT_VALUE_LOGGER,
+                DEFAULT_DIFFERENCE_STRING,
+                cancellation);
+    }
+
+    /**
+     * Compares all the pairs in parallel using {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @see DiffBatch
+     */
+    public static DiffSummary compareAll(Stream<Pair> pairs, Configuration configuration) {
+        return DiffBatch.create(configuration).compareAll(pairs);
+    }
+
+    /**
+     * Compares all the pairs in parallel using given executor.
+     *
+     * @see DiffBatch
+     */
+    public static DiffSummary compareAll(Stream<Pair> pairs, Configuration configuration, Executor executor) {
+        return DiffBatch.create(configuration).withExecutor(executor).compareAll(pairs);
+    }
+
+    /**
+     * Expected and actual value compared by {@link #compareAll(Stream, Configuration)}.
+     */
+    public record Pair(@Nullable Object expected, @Nullable Object actual) {}
+
     public static Diff createInternal(
             @Nullable Object expected,
             @Nullable Object actual,
@@ -150,13 +229,28 @@ public class Diff {
             Configuration configuration,
             String differenceString) {
         return new Diff(
-                convertToJson(quoteIfNeeded(expected), "expected", true),
+                convertExpectedToJson(quoteIfNeeded(expected), "expected"),
                 convertToJson(actual, actualName, false),
                 path,
                 configuration,
                 DEFAULT_DIFF_LOGGER,
                 DEFAULT_VALUE_LOGGER,
-                differenceString);
+                differenceString,
+                Diff::notCancelled);
+    }
+
+    /**
+     * Compares the documents using given executor, so the calling thread is not blocked. Cancelling the returned
+     * future stops the comparison. The values are converted the same way as in
+     * {@link #create(Object, Object, String, String, Configuration)}.
+     */
+    public static CompletableFuture<DiffResult> compareAsync(
+            @Nullable Object expected, @Nullable Object actual, Configuration configuration, Executor executor) {
+        return DiffBatch.create(configuration).withExecutor(executor).compareAsync(expected, actual);
+    }
+
+    private static boolean notCancelled() {
+        return false;
     }
 
     private void compare() {
@@ -321,6 +415,9 @@ public class Diff {
      * Compares two nodes.
      */
     private void compareNodes(Context context) {
+        if (cancellation.getAsBoolean()) {
+            throw new CancellationException("Comparison has been cancelled");
+        }
         if (shouldIgnorePath(context.actualPath())) {
             return;
         }
@@ -638,7 +735,8 @@ public class Diff {
 
     private ComparisonResult compareArraysIgnoringOrder(
             List<Node> expectedElements, List<Node> actualElements, Path path) {
-        return new ArrayComparison(expectedElements, actualElements, path, configuration).compareArraysIgnoringOrder();
+        return new ArrayComparison(expectedElements, actualElements, path, configuration, cancellation)
+                .compareArraysIgnoringOrder();
     }
 
     private boolean failOnExtraArrayItems(Path path) {
@@ -73,11 +73,11 @@ class GsonNodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
-        return source instanceof JsonElement;
+    public boolean isPreferredFor(Class<?> type) {
+        return JsonElement.class.isAssignableFrom(type);
     }
 
-    static final class GsonNode extends AbstractNode {
+    static final class GsonNode extends AbstractCachingNode {
         private final JsonElement jsonNode;
 
         GsonNode(JsonElement jsonNode) {
@@ -85,48 +85,41 @@ class GsonNodeFactory extends AbstractNodeFactory {
         }
 
         @Override
-        public Node element(int index) {
-            if (jsonNode instanceof JsonArray jsonArray) {
-                try {
-                    return newNode(jsonArray.get(index));
-                } catch (IndexOutOfBoundsException e) {
-                    return MISSING_NODE;
+        protected Node wrapElement(int index) {
+            return newNode(((JsonArray) jsonNode).get(index));
+        }
+
+        @Override
+        protected Node wrapField(String key) {
+            return newNode(((JsonObject) jsonNode).get(key));
+        }
+
+        @Override
+        protected Iterator<KeyValue> wrapFields() {
+            final Iterator<Map.Entry<String, JsonElement>> iterator =
+                    ((JsonObject) jsonNode).entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
                 }
-            } else {
-                return MISSING_NODE;
-            }
+
+                @Override
+                public KeyValue next() {
+                    Map.Entry<String, JsonElement> entry = iterator.next();
+                    return new KeyValue(entry.getKey(), newNode(entry.getValue()));
+                }
+            };
         }
 
         @Override
         public Iterator<KeyValue> fields() {
             if (isObject()) {
-                final Iterator<Map.Entry<String, JsonElement>> iterator =
-                        ((JsonObject) jsonNode).entrySet().iterator();
-                return new Iterator<>() {
-                    @Override
-                    public boolean hasNext() {
-                        return iterator.hasNext();
-                    }
-
-                    @Override
-                    public KeyValue next() {
-                        Map.Entry<String, JsonElement> entry = iterator.next();
-                        return new KeyValue(entry.getKey(), newNode(entry.getValue()));
-                    }
-                };
+                return super.fields();
             }
             throw new IllegalStateException("Can call fields() only on an JsonObject");
         }
 
-        @Override
-        public Node get(String key) {
-            if (jsonNode instanceof JsonObject jsonObject) {
-                return newNode(jsonObject.get(key));
-            } else {
-                return Node.MISSING_NODE;
-            }
-        }
-
         @Override
         public boolean isMissingNode() {
             return false;
@@ -144,20 +137,8 @@ class GsonNodeFactory extends AbstractNodeFactory {
 
         @Override
         public Iterator<Node> arrayElements() {
-            if (jsonNode instanceof JsonArray jsonArray) {
-                final Iterator<JsonElement> iterator = jsonArray.iterator();
-                return new Iterator<>() {
-                    @Override
-                    public boolean hasNext() {
-                        return iterator.hasNext();
-                    }
-
-                    @Override
-                    public Node next() {
-                        JsonElement entry = iterator.next();
-                        return newNode(entry);
-                    }
-                };
+            if (jsonNode instanceof JsonArray) {
+                return super.arrayElements();
             }
             throw new IllegalStateException("Can call arrayElements() only on an JsonArray");
         }
@@ -21,14 +21,17 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.databind.node.NullNode;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 import net.javacrumbs.jsonunit.providers.Jackson2ObjectMapperProvider;
 import org.jspecify.annotations.Nullable;
 
@@ -36,15 +39,25 @@ import org.jspecify.annotations.Nullable;
  * Deserializes node using Jackson 2
  */
 class Jackson2NodeFactory extends AbstractNodeFactory {
-    private final ServiceLoader<Jackson2ObjectMapperProvider> serviceLoader =
-            ServiceLoader.load(Jackson2ObjectMapperProvider.class);
+    private final Supplier<Jackson2ObjectMapperProvider> providerLookup;
+
+    // resolved on first use, the provider and its mappers do not change afterwards
+    private volatile @Nullable Mappers mappers;
+
+    Jackson2NodeFactory() {
+        this(Jackson2NodeFactory::getMapperProvider);
+    }
+
+    Jackson2NodeFactory(Supplier<Jackson2ObjectMapperProvider> providerLookup) {
+        this.providerLookup = providerLookup;
+    }
 
     @Override
     protected Node doConvertValue(Object source) {
         if (source instanceof JsonNode jsonNode) {
             return newNode(jsonNode);
         } else {
-            return newNode(getMapper(false).convertValue(source, JsonNode.class));
+            return newNode(mappers().mapper().convertValue(source, JsonNode.class));
         }
     }
 
@@ -56,7 +69,7 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
     @Override
     protected Node readValue(Reader value, String label, boolean lenient) {
         try {
-            return newNode(getMapper(lenient).readTree(value));
+            return newNode(mappers().reader(lenient).readTree(value));
         } catch (IOException e) {
             throw newParseException(label, value, e);
         } finally {
@@ -64,19 +77,61 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
         }
     }
 
-    private ObjectMapper getMapper(boolean lenient) {
-        return getMapperProvider().getObjectMapper(lenient);
+    @Override
+    protected Node readValue(InputStream stream, String label, boolean lenient) {
+        try {
+            return newNode(mappers().reader(lenient).readTree(stream));
+        } catch (IOException e) {
+            throw newParseException(label, e);
+        }
     }
 
-    private Jackson2ObjectMapperProvider getMapperProvider() {
-        synchronized (serviceLoader) {
-            Iterator<Jackson2ObjectMapperProvider> iterator = serviceLoader.iterator();
-            if (iterator.hasNext()) {
-                return iterator.next();
-            } else {
-                return DefaultObjectMapperProvider.INSTANCE;
+    @Override
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        try {
+            return newNode(mappers().reader(lenient).readTree(bytes, offset, length));
+        } catch (IOException e) {
+            throw newParseException(label, bytes, offset, length, e);
+        }
+    }
+
+    private Mappers mappers() {
+        Mappers result = mappers;
+        if (result == null) {
+            synchronized (this) {
+                result = mappers;
+                if (result == null) {
+                    result = Mappers.of(providerLookup.get());
+                    mappers = result;
+                }
             }
         }
+        return result;
+    }
+
+    private static Jackson2ObjectMapperProvider getMapperProvider() {
+        Iterator<Jackson2ObjectMapperProvider> iterator =
+                ServiceLoader.load(Jackson2ObjectMapperProvider.class).iterator();
+        if (iterator.hasNext()) {
+            return iterator.next();
+        } else {
+            return DefaultObjectMapperProvider.INSTANCE;
+        }
+    }
+
+    /**
+     * ObjectReaders are immutable and thread-safe, so they can be shared by all the parsing threads.
+     */
+    private record Mappers(ObjectMapper mapper, ObjectReader strictReader, ObjectReader lenientReader) {
+        private static Mappers of(Jackson2ObjectMapperProvider provider) {
+            ObjectMapper mapper = provider.getObjectMapper(false);
+            return new Mappers(
+                    mapper, mapper.reader(), provider.getObjectMapper(true).reader());
+        }
+
+        ObjectReader reader(boolean lenient) {
+            return lenient ? lenientReader : strictReader;
+        }
     }
 
     private static Node newNode(@Nullable JsonNode jsonNode) {
@@ -88,11 +143,11 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
-        return source instanceof JsonNode;
+    public boolean isPreferredFor(Class<?> type) {
+        return JsonNode.class.isAssignableFrom(type);
     }
 
-    static final class Jackson2Node extends AbstractNode {
+    static final class Jackson2Node extends AbstractCachingNode {
         private final JsonNode jsonNode;
 
         Jackson2Node(JsonNode jsonNode) {
@@ -100,12 +155,17 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
         }
 
         @Override
-        public Node element(int index) {
+        protected Node wrapElement(int index) {
             return newNode(jsonNode.path(index));
         }
 
         @Override
-        public Iterator<KeyValue> fields() {
+        protected Node wrapField(String key) {
+            return newNode(jsonNode.get(key));
+        }
+
+        @Override
+        protected Iterator<KeyValue> wrapFields() {
             final Iterator<Map.Entry<String, JsonNode>> iterator =
                     jsonNode.properties().iterator();
             return new Iterator<>() {
@@ -122,11 +182,6 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
             };
         }
 
-        @Override
-        public Node get(String key) {
-            return newNode(jsonNode.get(key));
-        }
-
         @Override
         public boolean isMissingNode() {
             return false;
@@ -142,22 +197,6 @@ class Jackson2NodeFactory extends AbstractNodeFactory {
             return jsonNode.isObject();
         }
 
-        @Override
-        public Iterator<Node> arrayElements() {
-            final Iterator<JsonNode> elements = jsonNode.elements();
-            return new Iterator<>() {
-                @Override
-                public boolean hasNext() {
-                    return elements.hasNext();
-                }
-
-                @Override
-                public Node next() {
-                    return newNode(elements.next());
-                }
-            };
-        }
-
         @Override
         public int size() {
             return jsonNode.size();
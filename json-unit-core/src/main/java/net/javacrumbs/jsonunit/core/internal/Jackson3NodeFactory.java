@@ -23,15 +23,18 @@ import static tools.jackson.databind.DeserializationFeature.FAIL_ON_TRAILING_TOK
 import static tools.jackson.databind.DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS;
 import static tools.jackson.databind.cfg.JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 import net.javacrumbs.jsonunit.providers.Jackson3ObjectMapperProvider;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.NullNode;
 
@@ -39,15 +42,25 @@ import tools.jackson.databind.node.NullNode;
  * Deserializes node using Jackson 3
  */
 class Jackson3NodeFactory extends AbstractNodeFactory {
-    private final ServiceLoader<Jackson3ObjectMapperProvider> serviceLoader =
-            ServiceLoader.load(Jackson3ObjectMapperProvider.class);
+    private final Supplier<Jackson3ObjectMapperProvider> providerLookup;
+
+    // resolved on first use, the provider and its mappers do not change afterwards
+    private volatile @Nullable Mappers mappers;
+
+    Jackson3NodeFactory() {
+        this(Jackson3NodeFactory::getMapperProvider);
+    }
+
+    Jackson3NodeFactory(Supplier<Jackson3ObjectMapperProvider> providerLookup) {
+        this.providerLookup = providerLookup;
+    }
 
     @Override
     protected Node doConvertValue(Object source) {
         if (source instanceof JsonNode jsonNode) {
             return newNode(jsonNode);
         } else {
-            return newNode(getMapper(false).convertValue(source, JsonNode.class));
+            return newNode(mappers().mapper().convertValue(source, JsonNode.class));
         }
     }
 
@@ -59,7 +72,7 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
     @Override
     protected Node readValue(Reader value, String label, boolean lenient) {
         try {
-            return newNode(getMapper(lenient).readTree(value));
+            return newNode(mappers().reader(lenient).readTree(value));
         } catch (Exception e) {
             throw newParseException(label, value, e);
         } finally {
@@ -67,19 +80,61 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
         }
     }
 
-    private ObjectMapper getMapper(boolean lenient) {
-        return getMapperProvider().getObjectMapper(lenient);
+    @Override
+    protected Node readValue(InputStream stream, String label, boolean lenient) {
+        try {
+            return newNode(mappers().reader(lenient).readTree(stream));
+        } catch (Exception e) {
+            throw newParseException(label, e);
+        }
+    }
+
+    @Override
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        try {
+            return newNode(mappers().reader(lenient).readTree(bytes, offset, length));
+        } catch (Exception e) {
+            throw newParseException(label, bytes, offset, length, e);
+        }
     }
 
-    private Jackson3ObjectMapperProvider getMapperProvider() {
-        synchronized (serviceLoader) {
-            Iterator<Jackson3ObjectMapperProvider> iterator = serviceLoader.iterator();
-            if (iterator.hasNext()) {
-                return iterator.next();
-            } else {
-                return DefaultObjectMapperProvider.INSTANCE;
+    private Mappers mappers() {
+        Mappers result = mappers;
+        if (result == null) {
+            synchronized (this) {
+                result = mappers;
+                if (result == null) {
+                    result = Mappers.of(providerLookup.get());
+                    mappers = result;
+                }
             }
         }
+        return result;
+    }
+
+    private static Jackson3ObjectMapperProvider getMapperProvider() {
+        Iterator<Jackson3ObjectMapperProvider> iterator =
+                ServiceLoader.load(Jackson3ObjectMapperProvider.class).iterator();
+        if (iterator.hasNext()) {
+            return iterator.next();
+        } else {
+            return DefaultObjectMapperProvider.INSTANCE;
+        }
+    }
+
+    /**
+     * ObjectReaders are immutable and thread-safe, so they can be shared by all the parsing threads.
+     */
+    private record Mappers(ObjectMapper mapper, ObjectReader strictReader, ObjectReader lenientReader) {
+        private static Mappers of(Jackson3ObjectMapperProvider provider) {
+            ObjectMapper mapper = provider.getObjectMapper(false);
+            return new Mappers(
+                    mapper, mapper.reader(), provider.getObjectMapper(true).reader());
+        }
+
+        ObjectReader reader(boolean lenient) {
+            return lenient ? lenientReader : strictReader;
+        }
     }
 
     private static Node newNode(@Nullable JsonNode jsonNode) {
@@ -91,11 +146,11 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
-        return source instanceof JsonNode;
+    public boolean isPreferredFor(Class<?> type) {
+        return JsonNode.class.isAssignableFrom(type);
     }
 
-    static final class Jackson3Node extends AbstractNode {
+    static final class Jackson3Node extends AbstractCachingNode {
         private final JsonNode jsonNode;
 
         Jackson3Node(JsonNode jsonNode) {
@@ -103,12 +158,17 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
         }
 
         @Override
-        public Node element(int index) {
+        protected Node wrapElement(int index) {
             return newNode(jsonNode.path(index));
         }
 
         @Override
-        public Iterator<KeyValue> fields() {
+        protected Node wrapField(String key) {
+            return newNode(jsonNode.get(key));
+        }
+
+        @Override
+        protected Iterator<KeyValue> wrapFields() {
             final Iterator<Map.Entry<String, JsonNode>> iterator =
                     jsonNode.propertyStream().iterator();
             return new Iterator<>() {
@@ -125,11 +185,6 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
             };
         }
 
-        @Override
-        public Node get(String key) {
-            return newNode(jsonNode.get(key));
-        }
-
         @Override
         public boolean isMissingNode() {
             return false;
@@ -145,22 +200,6 @@ class Jackson3NodeFactory extends AbstractNodeFactory {
             return jsonNode.isObject();
         }
 
-        @Override
-        public Iterator<Node> arrayElements() {
-            final Iterator<JsonNode> elements = jsonNode.iterator();
-            return new Iterator<>() {
-                @Override
-                public boolean hasNext() {
-                    return elements.hasNext();
-                }
-
-                @Override
-                public Node next() {
-                    return newNode(elements.next());
-                }
-            };
-        }
-
         @Override
         public int size() {
             return jsonNode.size();
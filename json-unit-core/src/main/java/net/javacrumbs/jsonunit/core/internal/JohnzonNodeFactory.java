@@ -28,6 +28,8 @@ import jakarta.json.JsonReader;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Iterator;
@@ -35,7 +37,6 @@ import java.util.Map;
 import org.apache.johnzon.core.JsonLongImpl;
 import org.apache.johnzon.mapper.Mapper;
 import org.apache.johnzon.mapper.MapperBuilder;
-import org.jspecify.annotations.Nullable;
 
 class JohnzonNodeFactory extends AbstractNodeFactory {
 
@@ -83,15 +84,37 @@ class JohnzonNodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
-        return source instanceof JsonValue;
+    protected Node readValue(InputStream stream, String label, boolean lenient) {
+        try (JsonReader parser = Json.createReader(stream)) {
+            try {
+                return newNode(parser.readValue());
+            } catch (JsonParsingException e) {
+                throw newParseException(label, e);
+            }
+        }
+    }
+
+    @Override
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        try (JsonReader parser = Json.createReader(new ByteArrayInputStream(bytes, offset, length))) {
+            try {
+                return newNode(parser.readValue());
+            } catch (JsonParsingException e) {
+                throw newParseException(label, bytes, offset, length, e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isPreferredFor(Class<?> type) {
+        return JsonValue.class.isAssignableFrom(type);
     }
 
     private static Node newNode(JsonValue value) {
         return new JavaxJsonNode(value);
     }
 
-    static final class JavaxJsonNode extends AbstractNode {
+    static final class JavaxJsonNode extends AbstractCachingNode {
         private final JsonValue jsonNode;
 
         JavaxJsonNode(JsonValue jsonNode) {
@@ -99,51 +122,40 @@ class JohnzonNodeFactory extends AbstractNodeFactory {
         }
 
         @Override
-        public Node element(int index) {
-            if (jsonNode instanceof JsonArray jsonArray) {
-                try {
-                    return newNode(jsonArray.get(index));
-                } catch (IndexOutOfBoundsException e) {
-                    return MISSING_NODE;
-                }
-            } else {
-                return MISSING_NODE;
-            }
+        protected Node wrapElement(int index) {
+            return newNode(((JsonArray) jsonNode).get(index));
         }
 
         @Override
-        public Iterator<KeyValue> fields() {
-            if (jsonNode instanceof JsonObject jsonObject) {
-                final Iterator<Map.Entry<String, JsonValue>> iterator =
-                        jsonObject.entrySet().iterator();
-                return new Iterator<>() {
-                    @Override
-                    public boolean hasNext() {
-                        return iterator.hasNext();
-                    }
-
-                    @Override
-                    public KeyValue next() {
-                        Map.Entry<String, JsonValue> entry = iterator.next();
-                        return new KeyValue(entry.getKey(), newNode(entry.getValue()));
-                    }
-                };
-            }
-            throw new IllegalStateException("Can call fields() only on an JsonObject");
+        protected Node wrapField(String key) {
+            JsonValue value = ((JsonObject) jsonNode).get(key);
+            return value != null ? newNode(value) : MISSING_NODE;
         }
 
         @Override
-        public Node get(String key) {
-            if (isObject()) {
-                JsonObject jsonObject = (JsonObject) this.jsonNode;
-                if (jsonObject.containsKey(key)) {
-                    return newNode(jsonObject.get(key));
-                } else {
-                    return Node.MISSING_NODE;
+        protected Iterator<KeyValue> wrapFields() {
+            final Iterator<Map.Entry<String, JsonValue>> iterator =
+                    ((JsonObject) jsonNode).entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
                 }
-            } else {
-                return Node.MISSING_NODE;
+
+                @Override
+                public KeyValue next() {
+                    Map.Entry<String, JsonValue> entry = iterator.next();
+                    return new KeyValue(entry.getKey(), newNode(entry.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public Iterator<KeyValue> fields() {
+            if (isObject()) {
+                return super.fields();
             }
+            throw new IllegalStateException("Can call fields() only on an JsonObject");
         }
 
         @Override
@@ -163,19 +175,8 @@ class JohnzonNodeFactory extends AbstractNodeFactory {
 
         @Override
         public Iterator<Node> arrayElements() {
-            if (jsonNode instanceof JsonArray jsonArray) {
-                final Iterator<JsonValue> iterator = jsonArray.iterator();
-                return new Iterator<>() {
-                    @Override
-                    public boolean hasNext() {
-                        return iterator.hasNext();
-                    }
-
-                    @Override
-                    public Node next() {
-                        return newNode(iterator.next());
-                    }
-                };
+            if (jsonNode instanceof JsonArray) {
+                return super.arrayElements();
             }
             throw new IllegalStateException("Can call arrayElements() only on an JsonArray");
         }
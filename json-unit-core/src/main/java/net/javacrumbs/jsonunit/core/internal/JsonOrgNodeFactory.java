@@ -77,8 +77,8 @@ class JsonOrgNodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
-        return source instanceof JSONObject || source instanceof JSONArray;
+    public boolean isPreferredFor(Class<?> type) {
+        return JSONObject.class.isAssignableFrom(type) || JSONArray.class.isAssignableFrom(type);
     }
 
     private static final class JSONArrayNode extends NodeSkeleton {
@@ -47,10 +47,26 @@ public class JsonUtils {
      * Converts object to JSON.
      */
     public static Node convertToJson(@Nullable Object source, String label, boolean lenient) {
-        if (source instanceof JsonSource jsonSource) {
-            return converter.convertToNode(jsonSource.getJson(), label, lenient);
+        Object json = source instanceof JsonSource jsonSource ? jsonSource.getJson() : source;
+        return converter.convertToNode(json, label, lenient);
+    }
+
+    /**
+     * Converts expected value to JSON. Expected values are parsed leniently and
+     * the result is cached in {@link NodeCache} if the cache is enabled.
+     */
+    public static Node convertExpectedToJson(@Nullable Object source, String label) {
+        Object json = source instanceof JsonSource jsonSource ? jsonSource.getJson() : source;
+        Object cacheKey = NodeCache.key(json);
+        if (cacheKey != null) {
+            Node node = NodeCache.get(cacheKey, () -> converter.convertToNode(json, label, true));
+            if (json instanceof ResourceReader reader) {
+                // not read if the node was cached
+                Utils.closeQuietly(reader);
+            }
+            return node;
         } else {
-            return converter.convertToNode(source, label, lenient);
+            return converter.convertToNode(json, label, true);
         }
     }
 
@@ -0,0 +1,278 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static net.javacrumbs.jsonunit.core.internal.GenericNodeBuilder.wrapDeserializedObject;
+import static net.javacrumbs.jsonunit.core.internal.Utils.closeQuietly;
+import static net.javacrumbs.jsonunit.core.internal.Utils.readAsString;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+import kotlin.Unit;
+import kotlinx.serialization.json.Json;
+import kotlinx.serialization.json.JsonArray;
+import kotlinx.serialization.json.JsonElement;
+import kotlinx.serialization.json.JsonKt;
+import kotlinx.serialization.json.JsonNull;
+import kotlinx.serialization.json.JsonObject;
+import kotlinx.serialization.json.JsonPrimitive;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Wraps kotlinx.serialization JsonElement. Since kotlinx.serialization is not able to serialize objects without
+ * generated serializers, other objects are handled by the remaining libraries.
+ *
+ * Lenient mode accepts unquoted keys and values and comments, single quotes are not supported.
+ */
+class KotlinxNodeFactory extends AbstractNodeFactory {
+    private static final Json lenientJson = JsonKt.Json(Json.Default, builder -> {
+        builder.setLenient(true);
+        builder.setAllowComments(true);
+        return Unit.INSTANCE;
+    });
+
+    @Override
+    protected Node doConvertValue(Object source) {
+        if (source instanceof JsonElement jsonElement) {
+            return new KotlinxNode(jsonElement);
+        } else {
+            return wrapDeserializedObject(source);
+        }
+    }
+
+    @Override
+    protected Node nullNode() {
+        return new KotlinxNode(JsonNull.INSTANCE);
+    }
+
+    @Override
+    protected Node readValue(Reader value, String label, boolean lenient) {
+        try {
+            Json json = lenient ? lenientJson : Json.Default;
+            return new KotlinxNode(json.parseToJsonElement(readAsString(value)));
+        } catch (IOException | IllegalArgumentException e) {
+            throw newParseException(label, value, e);
+        } finally {
+            closeQuietly(value);
+        }
+    }
+
+    @Override
+    public boolean isPreferredFor(Class<?> type) {
+        return JsonElement.class.isAssignableFrom(type);
+    }
+
+    static final class KotlinxNode extends AbstractCachingNode {
+        private final JsonElement jsonNode;
+
+        // cached parsed number, if the node is accessed concurrently, it may be parsed more than once
+        private @Nullable BigDecimal number;
+
+        KotlinxNode(JsonElement jsonNode) {
+            this.jsonNode = jsonNode;
+        }
+
+        @Override
+        protected Node wrapElement(int index) {
+            return new KotlinxNode(((JsonArray) jsonNode).get(index));
+        }
+
+        @Override
+        protected Node wrapField(String key) {
+            JsonElement value = ((JsonObject) jsonNode).get(key);
+            return value != null ? new KotlinxNode(value) : MISSING_NODE;
+        }
+
+        @Override
+        protected Iterator<KeyValue> wrapFields() {
+            final Iterator<Map.Entry<String, JsonElement>> iterator =
+                    ((JsonObject) jsonNode).entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public KeyValue next() {
+                    Map.Entry<String, JsonElement> entry = iterator.next();
+                    return new KeyValue(entry.getKey(), new KotlinxNode(entry.getValue()));
+                }
+            };
+        }
+
+        @Override
+        public Iterator<KeyValue> fields() {
+            if (isObject()) {
+                return super.fields();
+            }
+            throw new IllegalStateException("Can call fields() only on an JsonObject");
+        }
+
+        @Override
+        public Iterator<Node> arrayElements() {
+            if (jsonNode instanceof JsonArray) {
+                return super.arrayElements();
+            }
+            throw new IllegalStateException("Can call arrayElements() only on an JsonArray");
+        }
+
+        @Override
+        public boolean isMissingNode() {
+            return false;
+        }
+
+        @Override
+        public boolean isNull() {
+            return jsonNode instanceof JsonNull;
+        }
+
+        @Override
+        public boolean isObject() {
+            return jsonNode instanceof JsonObject;
+        }
+
+        @Override
+        public int size() {
+            if (jsonNode instanceof JsonArray jsonArray) {
+                return jsonArray.size();
+            } else if (jsonNode instanceof JsonObject jsonObject) {
+                return jsonObject.size();
+            } else {
+                return 0;
+            }
+        }
+
+        @Override
+        public String asText() {
+            if (jsonNode instanceof JsonPrimitive primitive) {
+                return primitive.getContent();
+            } else {
+                throw new IllegalStateException("Not a JsonPrimitive: " + jsonNode);
+            }
+        }
+
+        @Override
+        public NodeType getNodeType() {
+            if (jsonNode instanceof JsonObject) {
+                return NodeType.OBJECT;
+            } else if (jsonNode instanceof JsonArray) {
+                return NodeType.ARRAY;
+            } else if (jsonNode instanceof JsonNull) {
+                return NodeType.NULL;
+            } else if (jsonNode instanceof JsonPrimitive primitive) {
+                return primitiveType(primitive);
+            } else {
+                throw new IllegalStateException("Unexpected node type " + jsonNode);
+            }
+        }
+
+        /**
+         * Unquoted primitives are booleans or numbers, lenient parser accepts unquoted strings as well.
+         */
+        private static NodeType primitiveType(JsonPrimitive primitive) {
+            String content = primitive.getContent();
+            if (primitive.isString()) {
+                return NodeType.STRING;
+            } else if (content.equals("true") || content.equals("false")) {
+                return NodeType.BOOLEAN;
+            } else if (isNumber(content)) {
+                return NodeType.NUMBER;
+            } else {
+                return NodeType.STRING;
+            }
+        }
+
+        @Override
+        public BigDecimal decimalValue() {
+            BigDecimal result = number;
+            if (result == null) {
+                result = new BigDecimal(asText());
+                number = result;
+            }
+            return result;
+        }
+
+        /**
+         * Decided based on the content, so the number does not have to be parsed.
+         */
+        @Override
+        public boolean isIntegralNumber() {
+            String content = asText();
+            return content.indexOf('.') < 0 && content.indexOf('e') < 0 && content.indexOf('E') < 0;
+        }
+
+        @Override
+        public Boolean asBoolean() {
+            return Boolean.valueOf(asText());
+        }
+
+        @Override
+        public String toString() {
+            return jsonNode.toString();
+        }
+    }
+
+    /**
+     * Checks the content against JSON number grammar, so the type is known without parsing the number.
+     */
+    static boolean isNumber(String content) {
+        int length = content.length();
+        int i = 0;
+        if (i < length && content.charAt(i) == '-') {
+            i++;
+        }
+        if (i < length && content.charAt(i) == '0') {
+            i++;
+        } else {
+            int digits = skipDigits(content, i);
+            if (digits == i) {
+                return false;
+            }
+            i = digits;
+        }
+        if (i < length && content.charAt(i) == '.') {
+            int digits = skipDigits(content, i + 1);
+            if (digits == i + 1) {
+                return false;
+            }
+            i = digits;
+        }
+        if (i < length && (content.charAt(i) == 'e' || content.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (content.charAt(i) == '+' || content.charAt(i) == '-')) {
+                i++;
+            }
+            int digits = skipDigits(content, i);
+            if (digits == i) {
+                return false;
+            }
+            i = digits;
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(String content, int from) {
+        int i = from;
+        while (i < content.length() && content.charAt(i) >= '0' && content.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+}
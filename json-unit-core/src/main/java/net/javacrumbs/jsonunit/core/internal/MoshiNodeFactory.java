@@ -15,15 +15,23 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
-import static net.javacrumbs.jsonunit.core.internal.Utils.closeQuietly;
 import static net.javacrumbs.jsonunit.core.internal.Utils.toReader;
 
 import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
 import com.squareup.moshi.Moshi;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
+import okio.Timeout;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -46,24 +54,54 @@ class MoshiNodeFactory extends AbstractNodeFactory {
     @Override
     protected Node readValue(String source, String label, boolean lenient) {
         try {
-            JsonAdapter<Object> adapter = moshi.adapter(Object.class);
-            if (lenient) {
-                adapter = adapter.lenient();
-            }
-            return newNode(adapter.fromJson(source));
+            return newNode(adapter(lenient).fromJson(source));
         } catch (IOException e) {
             throw newParseException(label, toReader(source), e);
         }
     }
 
+    @Override
+    protected Node readValue(InputStream stream, String label, boolean lenient) {
+        try (BufferedSource source = Okio.buffer(Okio.source(stream))) {
+            return readValue(source, lenient);
+        } catch (IOException e) {
+            throw newParseException(label, e);
+        }
+    }
+
+    @Override
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        try (BufferedSource source = Okio.buffer(Okio.source(new ByteArrayInputStream(bytes, offset, length)))) {
+            return readValue(source, lenient);
+        } catch (IOException e) {
+            throw newParseException(label, bytes, offset, length, e);
+        }
+    }
+
+    private Node readValue(BufferedSource source, boolean lenient) throws IOException {
+        JsonReader reader = JsonReader.of(source);
+        Object result = adapter(lenient).fromJson(reader);
+        // same check as in JsonAdapter.fromJson(String)
+        if (!lenient && reader.peek() != JsonReader.Token.END_DOCUMENT) {
+            throw new JsonDataException("JSON document was not fully consumed.");
+        }
+        return newNode(result);
+    }
+
+    private static JsonAdapter<Object> adapter(boolean lenient) {
+        JsonAdapter<Object> adapter = moshi.adapter(Object.class);
+        if (lenient) {
+            adapter = adapter.lenient();
+        }
+        return adapter;
+    }
+
     @Override
     protected Node readValue(Reader value, String label, boolean lenient) {
-        try {
-            return readValue(Utils.readAsString(value), label, lenient);
+        try (BufferedSource source = Okio.buffer(new ReaderSource(value))) {
+            return readValue(source, lenient);
         } catch (IOException e) {
-            throw new IllegalArgumentException("Can not parse " + label + " value.", e);
-        } finally {
-            closeQuietly(value);
+            throw newParseException(label, value, e);
         }
     }
 
@@ -72,10 +110,58 @@ class MoshiNodeFactory extends AbstractNodeFactory {
     }
 
     @Override
-    public boolean isPreferredFor(@Nullable Object source) {
+    public boolean isPreferredFor(Class<?> type) {
         return false;
     }
 
+    /**
+     * Feeds characters from the reader to Moshi as UTF-8, so the input does not have to be read into a String first.
+     */
+    private static final class ReaderSource implements Source {
+        private final Reader reader;
+        private final char[] chars = new char[2048];
+
+        // high surrogate read at the end of the previous chunk
+        private boolean pendingSurrogate = false;
+
+        private ReaderSource(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            int offset = pendingSurrogate ? 1 : 0;
+            int read = reader.read(chars, offset, chars.length - offset);
+            if (read < 0) {
+                if (pendingSurrogate) {
+                    pendingSurrogate = false;
+                    sink.writeUtf8(String.valueOf(chars[0]));
+                    return 1;
+                }
+                return -1;
+            }
+            int length = offset + read;
+            pendingSurrogate = Character.isHighSurrogate(chars[length - 1]);
+            int complete = pendingSurrogate ? length - 1 : length;
+            long sizeBefore = sink.size();
+            sink.writeUtf8(new String(chars, 0, complete));
+            if (pendingSurrogate) {
+                chars[0] = chars[length - 1];
+            }
+            return sink.size() - sizeBefore;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
     private static class MoshiNodeBuilder extends GenericNodeBuilder {
         @Override
         public Node newNode(@Nullable Object object) {
@@ -86,16 +172,26 @@ class MoshiNodeFactory extends AbstractNodeFactory {
             }
         }
 
-        private static final class MoshiNumberNode extends GenericNodeBuilder.NumberNode {
-            private MoshiNumberNode(Number value) {
-                super(value);
+        /**
+         * Moshi parses all numbers as doubles, the value is normalized only once.
+         */
+        private static final class MoshiNumberNode extends GenericNodeBuilder.NodeSkeleton {
+            private final BigDecimal value;
+
+            private MoshiNumberNode(Number number) {
+                // Workaround for Moshi bug https://github.com/square/moshi/issues/192
+                BigDecimal value = new BigDecimal(number.toString()).stripTrailingZeros();
+                this.value = value.scale() < 0 ? value.setScale(0, RoundingMode.HALF_UP) : value;
+            }
+
+            @Override
+            public NodeType getNodeType() {
+                return NodeType.NUMBER;
             }
 
             @Override
             public BigDecimal decimalValue() {
-                // Workaround for Moshi bug https://github.com/square/moshi/issues/192
-                BigDecimal value = super.decimalValue().stripTrailingZeros();
-                return value.scale() < 0 ? value.setScale(0, RoundingMode.HALF_UP) : value;
+                return value;
             }
 
             @Override
@@ -105,7 +201,7 @@ class MoshiNodeFactory extends AbstractNodeFactory {
 
             @Override
             public String toString() {
-                return decimalValue().toString();
+                return value.toString();
             }
         }
     }
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import net.javacrumbs.jsonunit.core.util.ExpectedJsonCache;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded LRU cache of parsed expected values. Only classpath resources and Strings are cached, since they can not
+ * change. The cache is disabled unless <code>json-unit.cache.size</code> system property is set or it is enabled
+ * using {@link ExpectedJsonCache}.
+ */
+public final class NodeCache {
+    static final String CACHE_SIZE_PROPERTY_NAME = "json-unit.cache.size";
+
+    private static final Object lock = new Object();
+
+    // access ordered, the eldest entry is the least recently used one
+    private static final LinkedHashMap<Object, Node> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static volatile int maximumSize = Integer.getInteger(CACHE_SIZE_PROPERTY_NAME, 0);
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    private NodeCache() {
+        // nothing
+    }
+
+    /**
+     * Returns cache key of the value or null if the value can not be cached.
+     */
+    static @Nullable Object key(@Nullable Object source) {
+        if (source instanceof String) {
+            return source;
+        } else if (source instanceof ResourceReader reader) {
+            return new ResourceKey(reader.getResourceName());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns cached node or parses the value. Parsing is done outside of the lock, so the same value
+     * may be parsed more than once by concurrent threads.
+     */
+    static Node get(Object key, Supplier<Node> parser) {
+        if (maximumSize <= 0) {
+            return parser.get();
+        }
+        synchronized (lock) {
+            Node node = entries.get(key);
+            if (node != null) {
+                hits++;
+                return node;
+            }
+            misses++;
+        }
+        Node node = parser.get();
+        synchronized (lock) {
+            if (maximumSize > 0) {
+                entries.put(key, node);
+                evictEldest();
+            }
+        }
+        return node;
+    }
+
+    public static boolean containsResource(String resourceName) {
+        if (maximumSize <= 0) {
+            return false;
+        }
+        synchronized (lock) {
+            return entries.containsKey(new ResourceKey(resourceName));
+        }
+    }
+
+    public static void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Cache size can not be negative");
+        }
+        synchronized (lock) {
+            maximumSize = size;
+            evictEldest();
+        }
+    }
+
+    public static void clear() {
+        synchronized (lock) {
+            entries.clear();
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+        }
+    }
+
+    public static ExpectedJsonCache.Statistics statistics() {
+        synchronized (lock) {
+            return new ExpectedJsonCache.Statistics(hits, misses, evictions, entries.size(), maximumSize);
+        }
+    }
+
+    private static void evictEldest() {
+        Iterator<Map.Entry<Object, Node>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    private record ResourceKey(String resourceName) {}
+}
@@ -19,9 +19,10 @@ import org.jspecify.annotations.Nullable;
 
 interface NodeFactory {
     /**
-     * Returns true if this factory is preferred for given source.
+     * Returns true if this factory is preferred for sources of given type.
+     * The result is cached so it has to depend only on the type.
      */
-    boolean isPreferredFor(@Nullable Object source);
+    boolean isPreferredFor(Class<?> type);
 
     /**
      * Creates node from given source.
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * For internal use only!!! Actual value parsed once and shared by chained assertions, so strings, readers and
+ * streams are not parsed again when navigating, evaluating JsonPath or resolving paths in configuration.
+ * Keeps path prefix and matching paths of the original {@link JsonSource}.
+ */
+public final class ParsedDocument implements JsonSource {
+    private final Node node;
+    private final String pathPrefix;
+    private final List<String> matchingPaths;
+
+    private ParsedDocument(Node node, String pathPrefix, List<String> matchingPaths) {
+        this.node = node;
+        this.pathPrefix = pathPrefix;
+        this.matchingPaths = matchingPaths;
+    }
+
+    /**
+     * Parses the source, already parsed documents are returned as they are. Null is kept as null, since
+     * it is treated differently from JSON null, for example by JsonPath.
+     */
+    public static @Nullable ParsedDocument of(@Nullable Object source, String label) {
+        if (source == null) {
+            return null;
+        } else if (source instanceof ParsedDocument document) {
+            return document;
+        }
+        Node node = JsonUtils.convertToJson(source, label);
+        if (source instanceof JsonSource jsonSource) {
+            return new ParsedDocument(node, jsonSource.getPathPrefix(), jsonSource.getMatchingPaths());
+        } else {
+            return new ParsedDocument(node, "", List.of());
+        }
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    @Override
+    public Object getJson() {
+        return node;
+    }
+
+    @Override
+    public String getPathPrefix() {
+        return pathPrefix;
+    }
+
+    @Override
+    public List<String> getMatchingPaths() {
+        return matchingPaths;
+    }
+
+    @Override
+    public String toString() {
+        return node.toString();
+    }
+}
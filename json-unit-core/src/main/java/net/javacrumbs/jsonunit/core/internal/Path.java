@@ -15,9 +15,10 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public final class Path {
@@ -25,12 +26,8 @@ public final class Path {
 
     private final String pathPrefix;
 
-    private static final Pattern arrayPattern = Pattern.compile("(.*)\\[(-?\\d+)]");
-
-    /**
-     * We need to ignore "\." when splitting path.
-     */
-    private static final Pattern dotWithPreviousChar = Pattern.compile("[^\\\\]\\.");
+    // parsed on first navigation
+    private volatile Step @Nullable [] steps;
 
     private Path(String path, String pathPrefix) {
         this.path = path;
@@ -115,44 +112,83 @@ public final class Path {
      * Returns node with given path.
      */
     Node getNode(Node root) {
-        if (isRoot()) {
-            return root;
-        }
-
-        Node startNode = root;
-        Matcher pathMatcher = dotWithPreviousChar.matcher(path);
-        int pos = 0;
-        while (pathMatcher.find()) {
-            String step = path.substring(pos, pathMatcher.end() - 1);
-            pos = pathMatcher.end();
-            startNode = doStep(step, startNode);
+        Node node = root;
+        for (Step step : steps()) {
+            String field = step.field();
+            if (field != null) {
+                node = node.get(field);
+            } else if (step.index() < 0) {
+                node = node.element(node.size() + step.index());
+            } else {
+                node = node.element(step.index());
+            }
         }
-        startNode = doStep(path.substring(pos), startNode);
-        return startNode;
+        return node;
     }
 
     private boolean isRoot() {
         return path.isEmpty();
     }
 
-    private static Node doStep(String step, Node startNode) {
-        // this regexp translates to \\\. which is find one backspace following by a dot
-        step = step.replaceAll("\\\\\\.", ".");
-        Matcher matcher = arrayPattern.matcher(step);
-        if (!matcher.matches()) {
-            startNode = startNode.get(step);
-        } else {
-            if (!matcher.group(1).isEmpty()) {
-                startNode = startNode.get(matcher.group(1));
+    private Step[] steps() {
+        Step[] result = steps;
+        if (result == null) {
+            result = isRoot() ? new Step[0] : parse(path);
+            steps = result;
+        }
+        return result;
+    }
+
+    /**
+     * Splits the path on dots which are not escaped as "\.".
+     */
+    private static Step[] parse(String path) {
+        List<Step> result = new ArrayList<>();
+        int pos = 0;
+        for (int i = 1; i < path.length(); i++) {
+            // the character before the dot can not be part of the previous separator
+            if (path.charAt(i) == '.' && i - 1 >= pos && path.charAt(i - 1) != '\\') {
+                addSteps(path.substring(pos, i), result);
+                pos = i + 1;
             }
+        }
+        addSteps(path.substring(pos), result);
+        return result.toArray(new Step[0]);
+    }
 
-            int index = Integer.parseInt(matcher.group(2));
-            if (index < 0) {
-                startNode = startNode.element(startNode.size() + index);
-            } else {
-                startNode = startNode.element(index);
+    /**
+     * Adds steps for "field", "field[index]" or "[index]". Only the last index is taken into account.
+     */
+    private static void addSteps(String step, List<Step> result) {
+        step = step.replace("\\.", ".");
+        int bracket = step.lastIndexOf('[');
+        if (bracket >= 0 && step.endsWith("]") && isIndex(step, bracket + 1, step.length() - 1)) {
+            if (bracket > 0) {
+                result.add(new Step(step.substring(0, bracket), 0));
             }
+            result.add(new Step(null, Integer.parseInt(step.substring(bracket + 1, step.length() - 1))));
+        } else {
+            result.add(new Step(step, 0));
         }
-        return startNode;
     }
+
+    private static boolean isIndex(String step, int start, int end) {
+        if (start < end && step.charAt(start) == '-') {
+            start++;
+        }
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (step.charAt(i) < '0' || step.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Navigation step, either to a field or to an array element if the field is null.
+     */
+    private record Step(@Nullable String field, int index) {}
 }
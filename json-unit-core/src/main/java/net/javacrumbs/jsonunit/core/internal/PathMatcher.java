@@ -15,11 +15,27 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * Matches paths like "root.array[1].next". Besides exact paths, the patterns can contain wildcards
+ * <ul>
+ * <li><code>*</code> matches any field name, "root.*.next" matches "root.a.next"</li>
+ * <li><code>[*]</code> matches any array index, "array[*].next" matches "array[1].next"</li>
+ * <li><code>**</code> matches any number of fields and indexes, "**.timestamp" matches "timestamp" and
+ * "root.array[1].timestamp"</li>
+ * </ul>
+ */
 abstract class PathMatcher {
     private static final PathMatcher EMPTY = new PathMatcher() {
         @Override
@@ -34,57 +50,249 @@ abstract class PathMatcher {
         if (paths == null || paths.isEmpty()) {
             return EMPTY;
         }
-        List<PathMatcher> matchers = paths.stream().map(PathMatcher::create).toList();
-        return new AggregatePathMatcher(matchers);
+        Set<String> exactPaths = new HashSet<>();
+        List<List<String>> patterns = new ArrayList<>();
+        for (String path : paths) {
+            List<String> segments = segments(withoutRoot(path));
+            if (segments.stream().anyMatch(PathMatcher::isWildcard)) {
+                patterns.add(segments);
+            } else {
+                exactPaths.add(path);
+                exactPaths.add(withoutRoot(path));
+            }
+        }
+        if (patterns.isEmpty()) {
+            return new ExactPathMatcher(exactPaths);
+        } else if (exactPaths.isEmpty()) {
+            return new WildcardPathMatcher(patterns);
+        } else {
+            return new AggregatePathMatcher(
+                    List.of(new ExactPathMatcher(exactPaths), new WildcardPathMatcher(patterns)));
+        }
     }
 
     static PathMatcher create(String path) {
-        if (path.contains("[*]")) {
-            return new ArrayWildcardMatcher(path);
+        return create(List.of(path));
+    }
+
+    /**
+     * "$.a" matches "a", "$[1]" matches "[1]"
+     */
+    private static String withoutRoot(String path) {
+        if (path.startsWith("$.")) {
+            return path.substring(2);
+        } else if (path.startsWith("$[")) {
+            return path.substring(1);
         } else {
-            return new SimplePathMatcher(path);
+            return path;
+        }
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.equals("*") || segment.equals("**") || segment.equals("[*]");
+    }
+
+    /**
+     * Splits the path to field names and indexes, "a.b[1]" to "a", "b", "[1]".
+     */
+    static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        int position = 0;
+        while (position < path.length()) {
+            int end;
+            if (path.charAt(position) == '[' && (end = path.indexOf(']', position)) >= 0) {
+                end++;
+            } else {
+                end = position;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+            }
+            segments.add(path.substring(position, end));
+            position = end < path.length() && path.charAt(end) == '.' ? end + 1 : end;
         }
+        return segments;
     }
 
-    private static class SimplePathMatcher extends PathMatcher {
-        private final String path;
+    private static class ExactPathMatcher extends PathMatcher {
+        private final Set<String> paths;
 
-        SimplePathMatcher(String path) {
-            this.path = path;
+        ExactPathMatcher(Set<String> paths) {
+            this.paths = paths;
         }
 
         @Override
         boolean matches(String pathToMatch) {
-            return path.equals(pathToMatch)
-                    || (path.startsWith("$.") && path.substring(2).equals(pathToMatch))
-                    || (path.startsWith("$[") && path.substring(1).equals(pathToMatch));
+            return paths.contains(pathToMatch);
         }
     }
 
     /**
-     * Matches array[*].something to array[1].something
+     * All the patterns are compiled to one deterministic automaton over path segments, so matching
+     * a path costs one table lookup per segment regardless of the number of patterns.
+     *
+     * Field names and indexes used in the patterns form the alphabet of the automaton, all the other
+     * field names and indexes are indistinguishable, so they share one symbol each.
      */
-    private static class ArrayWildcardMatcher extends PathMatcher {
-        private final Pattern pattern;
-
-        ArrayWildcardMatcher(String path) {
-            StringBuilder regexp = new StringBuilder();
-            int from = 0;
-            int to;
-            while ((to = path.indexOf("[*]", from)) >= 0) {
-                regexp.append("\\Q").append(path, from, to).append("\\E").append("\\[\\d+\\]");
-                from = to + 3; // length of the placeholder [*]
+    private static class WildcardPathMatcher extends PathMatcher {
+        private static final int DEAD = -1;
+
+        private final Map<String, Integer> symbols = new HashMap<>();
+        private final List<String> literals = new ArrayList<>();
+        private final int otherField;
+        private final int otherIndex;
+
+        // transitions[state][symbol]
+        private final int[][] transitions;
+        private final boolean[] accepting;
+
+        WildcardPathMatcher(List<List<String>> patterns) {
+            for (List<String> pattern : patterns) {
+                for (String segment : pattern) {
+                    if (!isWildcard(segment) && !symbols.containsKey(segment)) {
+                        symbols.put(segment, literals.size());
+                        literals.add(segment);
+                    }
+                }
+            }
+            otherField = symbols.size();
+            otherIndex = symbols.size() + 1;
+
+            Nfa nfa = new Nfa(patterns);
+            Map<BitSet, Integer> states = new HashMap<>();
+            List<BitSet> stateSets = new ArrayList<>();
+            List<int[]> transitionList = new ArrayList<>();
+            Deque<BitSet> queue = new ArrayDeque<>();
+
+            BitSet start = nfa.start();
+            states.put(start, 0);
+            stateSets.add(start);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                BitSet current = queue.poll();
+                int[] row = new int[symbols.size() + 2];
+                for (int symbol = 0; symbol < row.length; symbol++) {
+                    BitSet next = symbol == otherField
+                            ? nfa.step(current, null, false)
+                            : symbol == otherIndex
+                                    ? nfa.step(current, null, true)
+                                    : nfa.step(current, literals.get(symbol), isIndex(literals.get(symbol)));
+                    if (next.isEmpty()) {
+                        row[symbol] = DEAD;
+                    } else {
+                        Integer state = states.get(next);
+                        if (state == null) {
+                            state = stateSets.size();
+                            states.put(next, state);
+                            stateSets.add(next);
+                            queue.add(next);
+                        }
+                        row[symbol] = state;
+                    }
+                }
+                transitionList.add(row);
             }
-            // End of the pattern if any
-            if (from < path.length()) {
-                regexp.append("\\Q").append(path.substring(from)).append("\\E");
+            transitions = transitionList.toArray(new int[0][]);
+            accepting = new boolean[stateSets.size()];
+            for (int i = 0; i < accepting.length; i++) {
+                accepting[i] = nfa.accepts(stateSets.get(i));
             }
-            pattern = Pattern.compile(regexp.toString());
+        }
+
+        private int symbol(String segment) {
+            Integer symbol = symbols.get(segment);
+            if (symbol != null) {
+                return symbol;
+            }
+            return isIndex(segment) ? otherIndex : otherField;
         }
 
         @Override
         boolean matches(String pathToMatch) {
-            return pattern.matcher(pathToMatch).matches();
+            int state = 0;
+            for (String segment : segments(pathToMatch)) {
+                state = transitions[state][symbol(segment)];
+                if (state == DEAD) {
+                    return false;
+                }
+            }
+            return accepting[state];
+        }
+    }
+
+    private static boolean isIndex(String segment) {
+        return segment.startsWith("[");
+    }
+
+    /**
+     * Nondeterministic automaton, state is a position in one of the patterns.
+     */
+    private static class Nfa {
+        private final List<String> segments = new ArrayList<>();
+
+        // positions after the last segment of a pattern
+        private final BitSet ends = new BitSet();
+
+        private Nfa(List<List<String>> patterns) {
+            for (List<String> pattern : patterns) {
+                segments.addAll(pattern);
+                ends.set(segments.size());
+                segments.add("");
+            }
+        }
+
+        BitSet start() {
+            BitSet start = new BitSet();
+            int position = 0;
+            while (position < segments.size()) {
+                start.set(position);
+                position = ends.nextSetBit(position) + 1;
+            }
+            return closure(start);
+        }
+
+        /**
+         * Adds positions reachable by skipping "**"
+         */
+        private BitSet closure(BitSet positions) {
+            BitSet result = (BitSet) positions.clone();
+            for (int position = result.nextSetBit(0); position >= 0; position = result.nextSetBit(position + 1)) {
+                if (!ends.get(position) && segments.get(position).equals("**")) {
+                    result.set(position + 1);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Positions after reading the segment, the segment is null if it is not used in any of the patterns.
+         */
+        BitSet step(BitSet positions, @Nullable String segment, boolean index) {
+            BitSet next = new BitSet();
+            for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+                if (ends.get(position)) {
+                    continue;
+                }
+                String patternSegment = segments.get(position);
+                if (patternSegment.equals("**")) {
+                    next.set(position);
+                } else if (matches(patternSegment, segment, index)) {
+                    next.set(position + 1);
+                }
+            }
+            return closure(next);
+        }
+
+        private static boolean matches(String patternSegment, @Nullable String segment, boolean index) {
+            return switch (patternSegment) {
+                case "*" -> !index;
+                case "[*]" -> index;
+                default -> patternSegment.equals(segment);
+            };
+        }
+
+        boolean accepts(BitSet positions) {
+            return positions.intersects(ends);
         }
     }
 
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reader of a classpath resource. The resource is opened lazily if it was not opened upfront,
+ * so resources served from {@link NodeCache} do not have to be read at all.
+ */
+public final class ResourceReader extends Reader {
+    private final String resourceName;
+    private @Nullable Reader delegate;
+
+    public ResourceReader(String resourceName, @Nullable Reader delegate) {
+        this.resourceName = resourceName;
+        this.delegate = delegate;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    /**
+     * Opens the resource, throws IllegalArgumentException if it does not exist.
+     */
+    public static Reader open(String resourceName) {
+        final InputStream resourceStream = ClassLoader.getSystemResourceAsStream(resourceName);
+        if (resourceStream == null) {
+            throw new IllegalArgumentException(format("resource '%s' not found", resourceName));
+        }
+        return new BufferedReader(new InputStreamReader(resourceStream, UTF_8));
+    }
+
+    private Reader delegate() {
+        Reader result = delegate;
+        if (result == null) {
+            result = open(resourceName);
+            delegate = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        return delegate().read(buffer, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "resource '" + resourceName + "'";
+    }
+}
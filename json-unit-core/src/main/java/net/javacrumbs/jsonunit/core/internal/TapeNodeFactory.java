@@ -0,0 +1,967 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static net.javacrumbs.jsonunit.core.internal.GenericNodeBuilder.wrapDeserializedObject;
+import static net.javacrumbs.jsonunit.core.internal.Utils.closeQuietly;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.javacrumbs.jsonunit.core.internal.Utils.ByteBufferReader;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parses JSON into a flat tape without any external library.
+ *
+ * The whole document is stored in one long[] of tokens and one char[] of decoded strings and numbers,
+ * nodes are just indexes to the tape. Every token has its type in the highest byte and a payload in the rest.
+ * <ul>
+ * <li>Objects and arrays take two tokens, the first has the index after the last child as a payload, the second
+ * contains number of children in the upper half. Object children are key-value pairs.</li>
+ * <li>The lower half of the second array token is either the negative size of the elements if all of them take
+ * the same number of tokens, or the start of the table of element indexes, so that any element is found in
+ * constant time. Objects with many fields have an ordinal of their lazily built key index there.</li>
+ * <li>Strings (including keys) and non-integral numbers point to the char buffer. The text is prefixed by its length
+ * stored in two chars.</li>
+ * <li>Integral numbers fitting to long take two tokens, the second one is the value.</li>
+ * <li>true, false and null do not have any payload.</li>
+ * </ul>
+ *
+ * The input is read in chunks, so it never has to be in memory as a whole.
+ *
+ * Since the factory is not able to serialize objects, it should be combined with another library,
+ * for example <code>json-unit.libraries=tape,jackson2</code>.
+ */
+class TapeNodeFactory extends AbstractNodeFactory {
+    @Override
+    protected Node doConvertValue(Object source) {
+        return wrapDeserializedObject(source);
+    }
+
+    @Override
+    protected Node nullNode() {
+        return wrapDeserializedObject(null);
+    }
+
+    @Override
+    protected Node readValue(Reader value, String label, boolean lenient) {
+        try {
+            return Tape.parse(value, lenient);
+        } catch (IOException | IllegalArgumentException e) {
+            throw newParseException(label, value, e);
+        } finally {
+            closeQuietly(value);
+        }
+    }
+
+    @Override
+    protected Node readValue(byte[] bytes, int offset, int length, String label, boolean lenient) {
+        try {
+            return Tape.parse(new ByteBufferReader(ByteBuffer.wrap(bytes, offset, length)), lenient);
+        } catch (IOException | IllegalArgumentException e) {
+            throw newParseException(label, bytes, offset, length, e);
+        }
+    }
+
+    /**
+     * Direct and memory mapped buffers are decoded in chunks without copying them to the heap.
+     */
+    @Override
+    protected Node readValue(ByteBuffer byteBuffer, String label, boolean lenient) {
+        if (byteBuffer.hasArray()) {
+            return super.readValue(byteBuffer, label, lenient);
+        }
+        try {
+            // duplicate so that the position of the buffer passed by the user is not changed
+            return Tape.parse(new ByteBufferReader(byteBuffer.duplicate()), lenient);
+        } catch (IOException | IllegalArgumentException e) {
+            throw newParseException(label, e);
+        }
+    }
+
+    /**
+     * Text sources are parsed by this factory, everything else goes to the other libraries.
+     */
+    @Override
+    public boolean isPreferredFor(Class<?> type) {
+        return type == String.class
+                || type == byte[].class
+                || Reader.class.isAssignableFrom(type)
+                || ByteBuffer.class.isAssignableFrom(type)
+                || InputStream.class.isAssignableFrom(type)
+                || java.nio.file.Path.class.isAssignableFrom(type);
+    }
+
+    static final class Tape {
+        private static final int TYPE_SHIFT = 56;
+        private static final long PAYLOAD_MASK = (1L << TYPE_SHIFT) - 1;
+
+        private static final int OBJECT = 1;
+        private static final int ARRAY = 2;
+        private static final int STRING = 3;
+        private static final int DECIMAL = 4;
+        private static final int LONG = 5;
+        private static final int TRUE = 6;
+        private static final int FALSE = 7;
+        private static final int NULL = 8;
+
+        /**
+         * Smaller objects are searched sequentially, it's faster than building the index.
+         */
+        private static final int KEY_INDEX_THRESHOLD = 8;
+
+        private final long[] tokens;
+        private final char[] chars;
+        private final int[] elements;
+        private final AtomicReferenceArray<Map<String, Integer>> keyIndexes;
+
+        private Tape(long[] tokens, char[] chars, int[] elements, int indexedObjects) {
+            this.tokens = tokens;
+            this.chars = chars;
+            this.elements = elements;
+            this.keyIndexes = new AtomicReferenceArray<>(indexedObjects);
+        }
+
+        static Node parse(Reader reader, boolean lenient) throws IOException {
+            Tape tape = new Parser(reader, lenient).parse();
+            if (tape == null) {
+                return Node.MISSING_NODE;
+            } else {
+                return new TapeNode(tape, 0);
+            }
+        }
+
+        private int type(int index) {
+            return type(tokens, index);
+        }
+
+        private static int type(long[] tokens, int index) {
+            return (int) (tokens[index] >>> TYPE_SHIFT);
+        }
+
+        private int payload(int index) {
+            return (int) (tokens[index] & PAYLOAD_MASK);
+        }
+
+        /**
+         * Returns index of the token following the value starting at given index.
+         */
+        private int next(int index) {
+            return next(tokens, index);
+        }
+
+        private static int next(long[] tokens, int index) {
+            return switch (type(tokens, index)) {
+                case OBJECT, ARRAY -> (int) (tokens[index] & PAYLOAD_MASK);
+                case LONG -> index + 2;
+                default -> index + 1;
+            };
+        }
+
+        private int count(int index) {
+            return (int) (tokens[index + 1] >>> 32);
+        }
+
+        /**
+         * Returns index of the i-th element of the array starting at given index.
+         */
+        private int element(int index, int i) {
+            int table = (int) tokens[index + 1];
+            return table < 0 ? index + 2 + i * -table : elements[table + i];
+        }
+
+        /**
+         * Returns index of the value of given key or -1. The last value wins if the key is duplicated,
+         * the same as in other libraries.
+         */
+        private int find(int index, String key) {
+            if (count(index) > KEY_INDEX_THRESHOLD) {
+                return keyIndex(index).getOrDefault(key, -1);
+            }
+            int found = -1;
+            int end = payload(index);
+            for (int i = index + 2; i < end; i = next(i + 1)) {
+                if (stringEquals(i, key)) {
+                    found = i + 1;
+                }
+            }
+            return found;
+        }
+
+        private Map<String, Integer> keyIndex(int index) {
+            int ordinal = (int) tokens[index + 1];
+            Map<String, Integer> keyIndex = keyIndexes.get(ordinal);
+            if (keyIndex == null) {
+                // benign race, the index may be built more than once
+                keyIndex = new HashMap<>();
+                int end = payload(index);
+                for (int i = index + 2; i < end; i = next(i + 1)) {
+                    keyIndex.put(string(i), i + 1);
+                }
+                keyIndexes.set(ordinal, keyIndex);
+            }
+            return keyIndex;
+        }
+
+        private String string(int index) {
+            int offset = payload(index);
+            return new String(chars, offset + 2, length(offset));
+        }
+
+        private int length(int offset) {
+            return chars[offset] << 16 | chars[offset + 1];
+        }
+
+        private boolean stringEquals(int index, String value) {
+            int offset = payload(index);
+            int length = length(offset);
+            if (length != value.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (chars[offset + 2 + i] != value.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads the input in chunks. The tape buffers start small and grow as needed, they are not trimmed at the end
+     * to avoid copying them.
+     */
+    private static final class Parser {
+        private final Reader reader;
+        private final boolean lenient;
+
+        private final char[] buffer = new char[8 * 1024];
+        private int position;
+        private int limit;
+        // number of chars read before the current buffer content
+        private long offset;
+
+        private long[] tokens = new long[64];
+        private int tokenCount;
+        private char[] chars = new char[256];
+        private int charCount;
+        private int[] elements = new int[16];
+        private int elementCount;
+        private int indexedObjects;
+
+        // indexes of the opened containers
+        private int[] stack = new int[32];
+        private int[] counts = new int[32];
+        private int depth;
+
+        private Parser(Reader reader, boolean lenient) {
+            this.reader = reader;
+            this.lenient = lenient;
+        }
+
+        /**
+         * Returns null if the input is empty.
+         */
+        @Nullable
+        Tape parse() throws IOException {
+            skipWhitespace();
+            if (peek() < 0) {
+                return null;
+            }
+            values:
+            while (true) {
+                if (depth > 0) {
+                    counts[depth - 1]++;
+                }
+                char c = nextNonWhitespace();
+                switch (c) {
+                    case '{' -> {
+                        open(Tape.OBJECT);
+                        if (peekNonWhitespace() == '}') {
+                            position++;
+                            close();
+                        } else {
+                            readKey();
+                            continue values;
+                        }
+                    }
+                    case '[' -> {
+                        open(Tape.ARRAY);
+                        if (peekNonWhitespace() == ']') {
+                            position++;
+                            close();
+                        } else {
+                            continue values;
+                        }
+                    }
+                    case '"' -> addString(readString('"'));
+                    case '\'' -> {
+                        if (!lenient) {
+                            throw unexpected(c);
+                        }
+                        addString(readString('\''));
+                    }
+                    case 't' -> readLiteral("true", Tape.TRUE);
+                    case 'f' -> readLiteral("false", Tape.FALSE);
+                    case 'n' -> readLiteral("null", Tape.NULL);
+                    default -> {
+                        if (c == '-' || (c >= '0' && c <= '9')) {
+                            readNumber(c);
+                        } else {
+                            throw unexpected(c);
+                        }
+                    }
+                }
+
+                // value finished, close containers or find the next value
+                while (depth > 0) {
+                    char separator = nextNonWhitespace();
+                    int type = Tape.type(tokens, stack[depth - 1]);
+                    if (separator == ',') {
+                        if (type == Tape.OBJECT) {
+                            readKey();
+                        }
+                        continue values;
+                    } else if ((separator == '}' && type == Tape.OBJECT) || (separator == ']' && type == Tape.ARRAY)) {
+                        close();
+                    } else {
+                        throw unexpected(separator);
+                    }
+                }
+                break;
+            }
+
+            // lenient parsing ignores trailing content the same way as the other libraries do
+            if (!lenient) {
+                skipWhitespace();
+                if (peek() >= 0) {
+                    throw unexpected(next());
+                }
+            }
+            return new Tape(tokens, chars, elements, indexedObjects);
+        }
+
+        private void open(int type) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+                counts = Arrays.copyOf(counts, depth * 2);
+            }
+            stack[depth] = tokenCount;
+            counts[depth] = 0;
+            depth++;
+            add(type, 0);
+            add(0, 0);
+        }
+
+        private void close() {
+            depth--;
+            int start = stack[depth];
+            int count = counts[depth];
+            int type = Tape.type(tokens, start);
+            int table;
+            if (type == Tape.ARRAY) {
+                table = elementTable(start);
+            } else {
+                table = count > Tape.KEY_INDEX_THRESHOLD ? indexedObjects++ : 0;
+            }
+            tokens[start] = (long) type << Tape.TYPE_SHIFT | tokenCount;
+            tokens[start + 1] = (long) count << 32 | (table & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Stores indexes of the array elements and returns start of the table. Returns negative size of the elements
+         * instead if all of them have the same size, the table is not needed then.
+         */
+        private int elementTable(int start) {
+            int table = elementCount;
+            int first = start + 2;
+            int size = first < tokenCount ? Tape.next(tokens, first) - first : 1;
+            boolean sameSize = true;
+            for (int element = first; element < tokenCount; ) {
+                int next = Tape.next(tokens, element);
+                sameSize &= next - element == size;
+                addElement(element);
+                element = next;
+            }
+            if (sameSize) {
+                elementCount = table;
+                return -size;
+            } else {
+                return table;
+            }
+        }
+
+        private void readKey() throws IOException {
+            char c = nextNonWhitespace();
+            if (c == '"') {
+                addString(readString('"'));
+            } else if (lenient && c == '\'') {
+                addString(readString('\''));
+            } else if (lenient && Character.isJavaIdentifierStart(c)) {
+                int offset = charCount;
+                appendLength(0);
+                appendChar(c);
+                int next;
+                while ((next = peek()) >= 0 && Character.isJavaIdentifierPart((char) next)) {
+                    appendChar((char) next);
+                    position++;
+                }
+                storeLength(offset);
+                add(Tape.STRING, offset);
+            } else {
+                throw unexpected(c);
+            }
+            char colon = nextNonWhitespace();
+            if (colon != ':') {
+                throw unexpected(colon);
+            }
+        }
+
+        /**
+         * Decodes the string to the char buffer and returns its offset.
+         */
+        private int readString(char quote) throws IOException {
+            int offset = charCount;
+            appendLength(0);
+            while (true) {
+                if (position == limit && !fill()) {
+                    throw unexpectedEnd();
+                }
+                // copy chars which do not need decoding at once
+                int start = position;
+                while (position < limit) {
+                    char c = buffer[position];
+                    if (c == quote || c == '\\' || c < 0x20) {
+                        break;
+                    }
+                    position++;
+                }
+                appendChars(start, position - start);
+                if (position == limit) {
+                    continue;
+                }
+
+                char c = buffer[position++];
+                if (c == quote) {
+                    break;
+                } else if (c == '\\') {
+                    char escaped = next();
+                    switch (escaped) {
+                        case '"', '\\', '/' -> appendChar(escaped);
+                        case 'b' -> appendChar('\b');
+                        case 'f' -> appendChar('\f');
+                        case 'n' -> appendChar('\n');
+                        case 'r' -> appendChar('\r');
+                        case 't' -> appendChar('\t');
+                        case 'u' -> appendChar(readUnicodeEscape());
+                        default -> {
+                            if (lenient && escaped == '\'') {
+                                appendChar(escaped);
+                            } else {
+                                throw new IllegalArgumentException(
+                                        "Unrecognized escape '\\" + escaped + "' at position " + (position() - 1));
+                            }
+                        }
+                    }
+                } else {
+                    throw new IllegalArgumentException(
+                            "Illegal unquoted control character at position " + (position() - 1));
+                }
+            }
+            storeLength(offset);
+            return offset;
+        }
+
+        private char readUnicodeEscape() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(next(), 16);
+                if (digit < 0) {
+                    throw new IllegalArgumentException("Invalid unicode escape at position " + (position() - 1));
+                }
+                value = value << 4 | digit;
+            }
+            return (char) value;
+        }
+
+        private void readLiteral(String literal, int type) throws IOException {
+            for (int i = 1; i < literal.length(); i++) {
+                char c = next();
+                if (c != literal.charAt(i)) {
+                    throw unexpected(c);
+                }
+            }
+            add(type, 0);
+        }
+
+        /**
+         * Reads the number to the char buffer and moves it to the tokens if it fits to long.
+         */
+        private void readNumber(char first) throws IOException {
+            int offset = charCount;
+            appendLength(0);
+            boolean negative = first == '-';
+            if (negative) {
+                appendChar(first);
+            } else {
+                // the digit has just been read from the buffer
+                position--;
+            }
+            int digits = charCount;
+            readDigits();
+            if (chars[digits] == '0' && charCount - digits > 1) {
+                throw new IllegalArgumentException(
+                        "Leading zeroes not allowed at position " + (position() - (charCount - digits)));
+            }
+            boolean integral = true;
+            if (peek() == '.') {
+                integral = false;
+                appendChar(next());
+                readDigits();
+            }
+            int exponent = peek();
+            if (exponent == 'e' || exponent == 'E') {
+                integral = false;
+                appendChar(next());
+                int sign = peek();
+                if (sign == '+' || sign == '-') {
+                    appendChar(next());
+                }
+                readDigits();
+            }
+
+            // 18 digits always fit to long
+            if (integral && charCount - offset - 2 <= 18) {
+                long value = 0;
+                for (int i = digits; i < charCount; i++) {
+                    value = value * 10 + (chars[i] - '0');
+                }
+                charCount = offset;
+                add(Tape.LONG, 0);
+                add(0, negative ? -value : value);
+            } else {
+                storeLength(offset);
+                add(Tape.DECIMAL, offset);
+            }
+        }
+
+        private void readDigits() throws IOException {
+            int start = charCount;
+            int c;
+            while ((c = peek()) >= '0' && c <= '9') {
+                appendChar((char) c);
+                position++;
+            }
+            if (charCount == start) {
+                throw c < 0 ? unexpectedEnd() : unexpected(next());
+            }
+        }
+
+        private void addString(int offset) {
+            add(Tape.STRING, offset);
+        }
+
+        private void add(int type, long payload) {
+            if (tokenCount == tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokenCount * 2);
+            }
+            tokens[tokenCount++] = (long) type << Tape.TYPE_SHIFT | payload;
+        }
+
+        private void addElement(int index) {
+            if (elementCount == elements.length) {
+                elements = Arrays.copyOf(elements, elementCount * 2);
+            }
+            elements[elementCount++] = index;
+        }
+
+        private void appendLength(int length) {
+            appendChar((char) (length >>> 16));
+            appendChar((char) length);
+        }
+
+        private void storeLength(int offset) {
+            int length = charCount - offset - 2;
+            chars[offset] = (char) (length >>> 16);
+            chars[offset + 1] = (char) length;
+        }
+
+        private void appendChar(char c) {
+            if (charCount == chars.length) {
+                chars = Arrays.copyOf(chars, charCount * 2);
+            }
+            chars[charCount++] = c;
+        }
+
+        private void appendChars(int start, int length) {
+            if (charCount + length > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(charCount * 2, charCount + length));
+            }
+            System.arraycopy(buffer, start, chars, charCount, length);
+            charCount += length;
+        }
+
+        /**
+         * Reads next chunk of the input, returns false at the end of the input.
+         */
+        private boolean fill() throws IOException {
+            offset += limit;
+            position = 0;
+            limit = 0;
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            limit = read;
+            return true;
+        }
+
+        /**
+         * Position of the next char in the whole input.
+         */
+        private long position() {
+            return offset + position;
+        }
+
+        private char next() throws IOException {
+            if (position == limit && !fill()) {
+                throw unexpectedEnd();
+            }
+            return buffer[position++];
+        }
+
+        /**
+         * Returns the next char without consuming it, or -1 at the end of the input.
+         */
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        private char nextNonWhitespace() throws IOException {
+            skipWhitespace();
+            return next();
+        }
+
+        private char peekNonWhitespace() throws IOException {
+            skipWhitespace();
+            int c = peek();
+            if (c < 0) {
+                throw unexpectedEnd();
+            }
+            return (char) c;
+        }
+
+        private void skipWhitespace() throws IOException {
+            int c;
+            while ((c = peek()) >= 0) {
+                if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                    position++;
+                } else if (lenient && c == '/') {
+                    position++;
+                    skipComment();
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void skipComment() throws IOException {
+            char type = next();
+            if (type == '/') {
+                int c;
+                while ((c = peek()) >= 0) {
+                    position++;
+                    if (c == '\n') {
+                        return;
+                    }
+                }
+            } else if (type == '*') {
+                while (true) {
+                    if (next() == '*' && peek() == '/') {
+                        position++;
+                        return;
+                    }
+                }
+            } else {
+                throw unexpected(type);
+            }
+        }
+
+        private IllegalArgumentException unexpected(char c) {
+            return new IllegalArgumentException("Unexpected character '" + c + "' at position " + (position() - 1));
+        }
+
+        private IllegalArgumentException unexpectedEnd() {
+            return new IllegalArgumentException("Unexpected end of input");
+        }
+    }
+
+    static final class TapeNode extends AbstractNode {
+        private final Tape tape;
+        private final int index;
+
+        TapeNode(Tape tape, int index) {
+            this.tape = tape;
+            this.index = index;
+        }
+
+        @Override
+        public Node element(int i) {
+            if (tape.type(index) == Tape.ARRAY && i >= 0 && i < tape.count(index)) {
+                return new TapeNode(tape, tape.element(index, i));
+            } else {
+                return MISSING_NODE;
+            }
+        }
+
+        @Override
+        public Iterator<KeyValue> fields() {
+            if (isObject()) {
+                int end = tape.payload(index);
+                return new Iterator<>() {
+                    private int key = index + 2;
+
+                    @Override
+                    public boolean hasNext() {
+                        return key < end;
+                    }
+
+                    @Override
+                    public KeyValue next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        KeyValue keyValue = new KeyValue(tape.string(key), new TapeNode(tape, key + 1));
+                        key = tape.next(key + 1);
+                        return keyValue;
+                    }
+                };
+            }
+            throw new IllegalStateException("Can call fields() only on an object");
+        }
+
+        @Override
+        public Node get(String key) {
+            if (isObject()) {
+                int found = tape.find(index, key);
+                if (found >= 0) {
+                    return new TapeNode(tape, found);
+                }
+            }
+            return MISSING_NODE;
+        }
+
+        @Override
+        public boolean isMissingNode() {
+            return false;
+        }
+
+        @Override
+        public boolean isNull() {
+            return tape.type(index) == Tape.NULL;
+        }
+
+        @Override
+        public boolean isObject() {
+            return tape.type(index) == Tape.OBJECT;
+        }
+
+        @Override
+        public Iterator<Node> arrayElements() {
+            if (tape.type(index) == Tape.ARRAY) {
+                int end = tape.payload(index);
+                return new Iterator<>() {
+                    private int child = index + 2;
+
+                    @Override
+                    public boolean hasNext() {
+                        return child < end;
+                    }
+
+                    @Override
+                    public Node next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Node node = new TapeNode(tape, child);
+                        child = tape.next(child);
+                        return node;
+                    }
+                };
+            }
+            throw new IllegalStateException("Can call arrayElements() only on an array");
+        }
+
+        @Override
+        public int size() {
+            int type = tape.type(index);
+            if (type == Tape.ARRAY || type == Tape.OBJECT) {
+                return tape.count(index);
+            }
+            return 0;
+        }
+
+        @Override
+        public String asText() {
+            return switch (tape.type(index)) {
+                case Tape.STRING, Tape.DECIMAL -> tape.string(index);
+                case Tape.LONG -> Long.toString(tape.tokens[index + 1]);
+                case Tape.TRUE -> "true";
+                case Tape.FALSE -> "false";
+                case Tape.NULL -> "null";
+                default -> "";
+            };
+        }
+
+        @Override
+        public NodeType getNodeType() {
+            return switch (tape.type(index)) {
+                case Tape.OBJECT -> NodeType.OBJECT;
+                case Tape.ARRAY -> NodeType.ARRAY;
+                case Tape.STRING -> NodeType.STRING;
+                case Tape.DECIMAL, Tape.LONG -> NodeType.NUMBER;
+                case Tape.TRUE, Tape.FALSE -> NodeType.BOOLEAN;
+                case Tape.NULL -> NodeType.NULL;
+                default -> throw new IllegalStateException("Unexpected node type " + tape.type(index));
+            };
+        }
+
+        @Override
+        public BigDecimal decimalValue() {
+            return switch (tape.type(index)) {
+                case Tape.LONG -> BigDecimal.valueOf(tape.tokens[index + 1]);
+                case Tape.DECIMAL -> new BigDecimal(tape.string(index));
+                default -> throw new UnsupportedOperationException();
+            };
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            return switch (tape.type(index)) {
+                case Tape.LONG -> true;
+                // only big integers do not fit to long
+                case Tape.DECIMAL -> tape.string(index).chars().noneMatch(c -> c == '.' || c == 'e' || c == 'E');
+                default -> false;
+            };
+        }
+
+        @Override
+        public Boolean asBoolean() {
+            return switch (tape.type(index)) {
+                case Tape.TRUE -> Boolean.TRUE;
+                case Tape.FALSE -> Boolean.FALSE;
+                default -> throw new UnsupportedOperationException();
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            write(builder);
+            return builder.toString();
+        }
+
+        /**
+         * Walks the tape with an explicit stack of opened containers, so deeply nested documents do not overflow
+         * the call stack.
+         */
+        private void write(StringBuilder builder) {
+            int[] stack = new int[16];
+            int depth = 0;
+            int i = index;
+            while (true) {
+                int type = tape.type(i);
+                if (type == Tape.OBJECT || type == Tape.ARRAY) {
+                    builder.append(type == Tape.OBJECT ? '{' : '[');
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = i;
+                    i += 2;
+                } else {
+                    switch (type) {
+                        case Tape.STRING -> writeString(builder, tape.string(i));
+                        case Tape.DECIMAL -> builder.append(new BigDecimal(tape.string(i)));
+                        default -> builder.append(new TapeNode(tape, i).asText());
+                    }
+                    i = tape.next(i);
+                }
+
+                // close finished containers or write separator of the next child
+                while (depth > 0) {
+                    int container = stack[depth - 1];
+                    boolean object = tape.type(container) == Tape.OBJECT;
+                    if (i == tape.payload(container)) {
+                        builder.append(object ? '}' : ']');
+                        depth--;
+                    } else {
+                        if (i > container + 2) {
+                            builder.append(',');
+                        }
+                        if (object) {
+                            writeString(builder, tape.string(i));
+                            builder.append(':');
+                            i++;
+                        }
+                        break;
+                    }
+                }
+                if (depth == 0) {
+                    return;
+                }
+            }
+        }
+
+        private static void writeString(StringBuilder builder, String value) {
+            builder.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> builder.append("\\\"");
+                    case '\\' -> builder.append("\\\\");
+                    case '\n' -> builder.append("\\n");
+                    case '\r' -> builder.append("\\r");
+                    case '\t' -> builder.append("\\t");
+                    case '\b' -> builder.append("\\b");
+                    case '\f' -> builder.append("\\f");
+                    default -> {
+                        if (c < 0x20) {
+                            builder.append(String.format("\\u%04X", (int) c));
+                        } else {
+                            builder.append(c);
+                        }
+                    }
+                }
+            }
+            builder.append('"');
+        }
+    }
+}
@@ -15,9 +15,19 @@
  */
 package net.javacrumbs.jsonunit.core.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -44,10 +54,10 @@ class Utils {
     }
 
     @SuppressWarnings("EmptyCatch")
-    static void closeQuietly(@Nullable Reader resourceReader) {
-        if (resourceReader != null) {
+    static void closeQuietly(@Nullable Closeable resource) {
+        if (resource != null) {
             try {
-                resourceReader.close();
+                resource.close();
             } catch (IOException ignored) {
             }
         }
@@ -68,4 +78,97 @@ class Utils {
             return string;
         }
     }
+
+    /**
+     * Reader decoding UTF-8 bytes giving access to the enclosed bytes.
+     */
+    static class JsonBytesReader extends InputStreamReader {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        JsonBytesReader(byte[] bytes, int offset, int length) {
+            super(new ByteArrayInputStream(bytes, offset, length), UTF_8);
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        int getLength() {
+            return length;
+        }
+    }
+
+    /**
+     * Reader decoding remaining UTF-8 bytes of a ByteBuffer without copying them to an intermediate array.
+     */
+    static class ByteBufferReader extends Reader {
+        private final ByteBuffer buffer;
+        private final CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private boolean finished;
+
+        ByteBufferReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(char[] chars, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            CharBuffer target = CharBuffer.wrap(chars, offset, length);
+            if (!finished && decoder.decode(buffer, target, true).isUnderflow()) {
+                finished = decoder.flush(target).isUnderflow();
+            }
+            int count = target.position() - offset;
+            return count == 0 && finished ? -1 : count;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /**
+     * InputStream reading remaining bytes of a ByteBuffer without copying them.
+     */
+    static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -0,0 +1,240 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.getPathPrefix;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Path;
+import net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compares many pairs of documents in parallel. The configuration is compiled only once and shared by all the
+ * workers, so are the parsed expected values if {@link ExpectedJsonCache} is enabled.
+ *
+ * <pre>
+ * DiffSummary summary = DiffBatch.create(configuration)
+ *         .withMaxReports(10)
+ *         .withResultListener(result -&gt; ...)
+ *         .compareAll(pairs);
+ * summary.failIfDifferent();
+ * </pre>
+ *
+ * The pairs are read by the calling thread, the number of pairs compared at the same time is limited,
+ * so the stream does not have to fit into memory.
+ */
+public final class DiffBatch {
+    static final int DEFAULT_MAX_REPORTS = 100;
+
+    private static final int MAX_PAIRS_IN_FLIGHT = 16 * Runtime.getRuntime().availableProcessors();
+
+    private final CompiledConfiguration configuration;
+    private final boolean resolvingJsonPaths;
+    private final Executor executor;
+    private final int maxReports;
+    private final Consumer<DiffResult> resultListener;
+
+    private DiffBatch(
+            CompiledConfiguration configuration,
+            boolean resolvingJsonPaths,
+            Executor executor,
+            int maxReports,
+            Consumer<DiffResult> resultListener) {
+        this.configuration = configuration;
+        this.resolvingJsonPaths = resolvingJsonPaths;
+        this.executor = executor;
+        this.maxReports = maxReports;
+        this.resultListener = resultListener;
+    }
+
+    /**
+     * Creates batch comparing the documents using {@link ForkJoinPool#commonPool()}.
+     */
+    public static DiffBatch create(Configuration configuration) {
+        return new DiffBatch(
+                CompiledConfiguration.compile(configuration),
+                InternalJsonPathUtils.containsJsonPaths(configuration),
+                ForkJoinPool.commonPool(),
+                DEFAULT_MAX_REPORTS,
+                DiffBatch::ignoreResult);
+    }
+
+    private static void ignoreResult(DiffResult result) {
+        // nothing
+    }
+
+    /**
+     * Sets executor comparing the documents.
+     */
+    public DiffBatch withExecutor(Executor executor) {
+        return new DiffBatch(configuration, resolvingJsonPaths, executor, maxReports, resultListener);
+    }
+
+    /**
+     * Sets how many results of different pairs are kept in {@link DiffSummary#getReports()}, 100 by default.
+     */
+    public DiffBatch withMaxReports(int maxReports) {
+        if (maxReports < 0) {
+            throw new IllegalArgumentException("Maximum number of reports can not be negative");
+        }
+        return new DiffBatch(configuration, resolvingJsonPaths, executor, maxReports, resultListener);
+    }
+
+    /**
+     * Sets listener notified about each result as soon as the pair is compared. The listener is called
+     * concurrently by the worker threads, in the order the comparisons complete.
+     */
+    public DiffBatch withResultListener(Consumer<DiffResult> resultListener) {
+        return new DiffBatch(configuration, resolvingJsonPaths, executor, maxReports, resultListener);
+    }
+
+    /**
+     * Compares all the pairs. If any comparison throws an exception, no more pairs are compared and the exception
+     * is rethrown once the running comparisons finish.
+     */
+    public DiffSummary compareAll(Stream<Diff.Pair> pairs) {
+        Results results = new Results(maxReports);
+        Semaphore permits = new Semaphore(MAX_PAIRS_IN_FLIGHT);
+        long index = 0;
+        try {
+            Iterator<Diff.Pair> iterator = pairs.iterator();
+            while (iterator.hasNext() && results.failure.get() == null) {
+                Diff.Pair pair = iterator.next();
+                long pairIndex = index++;
+                permits.acquireUninterruptibly();
+                try {
+                    executor.execute(() -> compare(pair, pairIndex, results, permits));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // waits for the running comparisons
+            permits.acquireUninterruptibly(MAX_PAIRS_IN_FLIGHT);
+        }
+        Throwable failure = results.failure.get();
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure instanceof Error error) {
+            throw error;
+        }
+        return results.summary(index);
+    }
+
+    /**
+     * Compares the documents using the executor of this batch, so the calling thread is not blocked. Cancelling
+     * the returned future stops the comparison. The result is not passed to the result listener.
+     */
+    public CompletableFuture<DiffResult> compareAsync(@Nullable Object expected, @Nullable Object actual) {
+        CompletableFuture<DiffResult> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(new DiffResult(0, createDiff(expected, actual, result::isCancelled)));
+            } catch (RuntimeException | Error e) {
+                // does nothing if the future has been cancelled
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private void compare(Diff.Pair pair, long index, Results results, Semaphore permits) {
+        try {
+            DiffResult result =
+                    new DiffResult(index, createDiff(pair.expected(), pair.actual(), DiffBatch::notCancelled));
+            resultListener.accept(result);
+            results.add(result);
+        } catch (RuntimeException | Error e) {
+            results.failure.compareAndSet(null, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Diff createDiff(
+            @Nullable Object expectedValue, @Nullable Object actualValue, BooleanSupplier cancellation) {
+        Node expected = configuration.convertExpected(expectedValue);
+        Node actual = configuration.convertActual(actualValue, "actual");
+        Path path = Path.create("", getPathPrefix(actualValue));
+        if (resolvingJsonPaths) {
+            Configuration resolved = InternalJsonPathUtils.resolveJsonPaths(actual, configuration.getConfiguration());
+            return Diff.create(expected, actual, path, CompiledConfiguration.compile(resolved), cancellation);
+        } else {
+            return Diff.create(expected, actual, path, configuration, cancellation);
+        }
+    }
+
+    private static boolean notCancelled() {
+        return false;
+    }
+
+    /**
+     * Collects results from the worker threads. Only the different results with the lowest indexes are kept.
+     */
+    private static final class Results {
+        private final int maxReports;
+        private final AtomicLong different = new AtomicLong();
+        private final AtomicReference<@Nullable Throwable> failure = new AtomicReference<>();
+
+        // the result with the highest index is on the top, so it can be replaced by a lower one
+        private final PriorityQueue<DiffResult> reports = new PriorityQueue<>(
+                Comparator.comparingLong(DiffResult::getIndex).reversed());
+
+        private Results(int maxReports) {
+            this.maxReports = maxReports;
+        }
+
+        void add(DiffResult result) {
+            if (!result.isSimilar()) {
+                different.incrementAndGet();
+                synchronized (reports) {
+                    reports.add(result);
+                    if (reports.size() > maxReports) {
+                        reports.poll();
+                    }
+                }
+            }
+        }
+
+        DiffSummary summary(long compared) {
+            List<DiffResult> sorted;
+            synchronized (reports) {
+                sorted = new ArrayList<>(reports);
+            }
+            sorted.sort(Comparator.comparingLong(DiffResult::getIndex));
+            return new DiffSummary(compared, different.get(), sorted);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import net.javacrumbs.jsonunit.core.internal.Diff;
+
+/**
+ * Result of one comparison done by {@link DiffBatch} or {@link Diff#compareAsync}. The documents are already
+ * compared, the result keeps the {@link Diff} so the differences can be formatted on demand.
+ */
+public final class DiffResult {
+    private final long index;
+    private final Diff diff;
+    private final boolean similar;
+
+    DiffResult(long index, Diff diff) {
+        this.index = index;
+        this.diff = diff;
+        this.similar = diff.similar();
+    }
+
+    /**
+     * Position of the compared pair in the compared stream, starting from zero. Zero for results of
+     * {@link DiffBatch#compareAsync(Object, Object)}.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    public boolean isSimilar() {
+        return similar;
+    }
+
+    public String getDifferences() {
+        return diff.differences();
+    }
+
+    /**
+     * Throws {@link AssertionError} if the documents are different.
+     */
+    public void failIfDifferent() {
+        diff.failIfDifferent();
+    }
+
+    @Override
+    public String toString() {
+        return "DiffResult{index=" + index + ", similar=" + similar + "}";
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import java.util.List;
+
+/**
+ * Aggregated result of {@link DiffBatch#compareAll(java.util.stream.Stream)}. Only a limited number of
+ * different results is kept, the ones with the lowest indexes.
+ */
+public final class DiffSummary {
+    private final long compared;
+    private final long different;
+    private final List<DiffResult> reports;
+
+    DiffSummary(long compared, long different, List<DiffResult> reports) {
+        this.compared = compared;
+        this.different = different;
+        this.reports = List.copyOf(reports);
+    }
+
+    /**
+     * Number of compared pairs.
+     */
+    public long getCompared() {
+        return compared;
+    }
+
+    /**
+     * Number of pairs that are different.
+     */
+    public long getDifferent() {
+        return different;
+    }
+
+    public boolean isSimilar() {
+        return different == 0;
+    }
+
+    /**
+     * Kept results of the pairs that are different, ordered by index.
+     */
+    public List<DiffResult> getReports() {
+        return reports;
+    }
+
+    /**
+     * Throws {@link AssertionError} listing the kept differences if any of the pairs is different.
+     */
+    public void failIfDifferent() {
+        if (different > 0) {
+            throw new AssertionError(differences());
+        }
+    }
+
+    private String differences() {
+        StringBuilder message = new StringBuilder();
+        message.append(different).append(" of ").append(compared).append(" compared pairs are different.\n");
+        for (DiffResult report : reports) {
+            message.append("\nPair ").append(report.getIndex()).append(":\n").append(report.getDifferences());
+        }
+        if (different > reports.size()) {
+            message.append("\n... and ").append(different - reports.size()).append(" more.\n");
+        }
+        return message.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "DiffSummary{compared=" + compared + ", different=" + different + "}";
+    }
+}
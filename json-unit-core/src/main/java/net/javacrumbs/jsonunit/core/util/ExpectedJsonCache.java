@@ -0,0 +1,74 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import net.javacrumbs.jsonunit.core.internal.NodeCache;
+
+/**
+ * Opt-in cache of parsed expected values. When enabled, expected Strings and resources loaded by
+ * {@link ResourceUtils#resource(String)} are parsed only once and reused by subsequent assertions.
+ * The least recently used values are evicted when the cache is full.
+ *
+ * The cache can be enabled also by <code>json-unit.cache.size</code> system property, for example
+ * <code>-Djson-unit.cache.size=1000</code>.
+ */
+public final class ExpectedJsonCache {
+    private ExpectedJsonCache() {
+        // nothing
+    }
+
+    /**
+     * Enables the cache.
+     *
+     * @param maximumSize maximal number of cached values
+     */
+    public static void enable(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size has to be positive");
+        }
+        NodeCache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Disables the cache and removes all the cached values.
+     */
+    public static void disable() {
+        NodeCache.setMaximumSize(0);
+        NodeCache.clear();
+    }
+
+    /**
+     * Removes all the cached values and resets the statistics.
+     */
+    public static void clear() {
+        NodeCache.clear();
+    }
+
+    public static Statistics statistics() {
+        return NodeCache.statistics();
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits        number of values served from the cache
+     * @param misses      number of values which had to be parsed
+     * @param evictions   number of values evicted because the cache was full
+     * @param size        number of cached values
+     * @param maximumSize maximal number of cached values, 0 if the cache is disabled
+     */
+    public record Statistics(long hits, long misses, long evictions, int size, int maximumSize) {}
+}
@@ -0,0 +1,306 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.javacrumbs.jsonunit.core.Configuration.dummyDifferenceListener;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertToJson;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.jsonSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.Option;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Path;
+import net.javacrumbs.jsonunit.core.internal.PathOption;
+import net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compares each line of a <a href="https://jsonlines.org/">JSON Lines</a> (NDJSON) document with the same expected
+ * value. The document is read line by line, so it does not have to fit into memory, and the expected value is parsed
+ * only once.
+ *
+ * The failure message contains the line number, counted from one. The index of the line, counted from zero, is used
+ * as a path prefix of the reported differences, so a difference in the fourth line is reported as
+ * <code>[line 4] ... node "[3].id"</code>. Paths in the configuration are relative to the line,
+ * "id" ignores "id" on every line. Blank lines are skipped but counted.
+ *
+ * The first line that does not match fails the assertion. When an {@link Executor} is provided, the lines are
+ * compared in parallel, the failure reported is still the one on the first non-matching line.
+ */
+public final class JsonLines {
+    private static final int BATCH_SIZE = 256;
+
+    private static final int MAX_BATCHES_IN_FLIGHT = 2 * Runtime.getRuntime().availableProcessors();
+
+    private JsonLines() {
+        // nothing
+    }
+
+    /**
+     * Compares each line of the UTF-8 encoded file with the expected value.
+     * Throws {@link AssertionError} if any of the lines is different.
+     */
+    public static void assertEachLine(java.nio.file.Path file, @Nullable Object expected, Configuration configuration) {
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            assertEachLine(reader, expected, configuration, null);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can not read actual value from '" + file + "'.", e);
+        }
+    }
+
+    /**
+     * Compares each line of the UTF-8 encoded file with the expected value in parallel.
+     * Throws {@link AssertionError} if any of the lines is different.
+     *
+     * @param executor executor comparing the lines, for example {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     */
+    public static void assertEachLine(
+            java.nio.file.Path file, @Nullable Object expected, Configuration configuration, Executor executor) {
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            assertEachLine(reader, expected, configuration, executor);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can not read actual value from '" + file + "'.", e);
+        }
+    }
+
+    /**
+     * Compares each line of the UTF-8 encoded stream with the expected value. The stream is closed afterwards.
+     * Throws {@link AssertionError} if any of the lines is different.
+     */
+    public static void assertEachLine(InputStream input, @Nullable Object expected, Configuration configuration) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, UTF_8))) {
+            assertEachLine(reader, expected, configuration, null);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can not read actual value.", e);
+        }
+    }
+
+    /**
+     * Compares each line of the UTF-8 encoded stream with the expected value in parallel.
+     * The stream is closed afterwards. Throws {@link AssertionError} if any of the lines is different.
+     *
+     * @param executor executor comparing the lines, for example {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     */
+    public static void assertEachLine(
+            InputStream input, @Nullable Object expected, Configuration configuration, Executor executor) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, UTF_8))) {
+            assertEachLine(reader, expected, configuration, executor);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Can not read actual value.", e);
+        }
+    }
+
+    private static void assertEachLine(
+            BufferedReader reader, @Nullable Object expected, Configuration configuration, @Nullable Executor executor)
+            throws IOException {
+        LineComparator comparator = new LineComparator(expected, configuration);
+        if (executor == null) {
+            long index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                comparator.failIfDifferent(line, index++);
+            }
+        } else {
+            assertInParallel(reader, comparator, executor);
+        }
+    }
+
+    /**
+     * Lines are read by the calling thread and compared in batches. The number of batches in flight is limited,
+     * so the lines are not read faster than they are compared. Results are consumed in the order of the lines,
+     * the batches after the first failure are cancelled.
+     */
+    private static void assertInParallel(BufferedReader reader, LineComparator comparator, Executor executor)
+            throws IOException {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Deque<CompletableFuture<@Nullable Failure>> batches = new ArrayDeque<>();
+        try {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            long index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    batches.add(submit(batch, index - BATCH_SIZE + 1, comparator, cancelled, executor));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    if (batches.size() >= MAX_BATCHES_IN_FLIGHT) {
+                        failIfDifferent(batches.removeFirst());
+                    }
+                }
+                index++;
+            }
+            if (!batch.isEmpty()) {
+                batches.add(submit(batch, index - batch.size(), comparator, cancelled, executor));
+            }
+            while (!batches.isEmpty()) {
+                failIfDifferent(batches.removeFirst());
+            }
+        } finally {
+            cancelled.set(true);
+            batches.forEach(remaining -> remaining.cancel(false));
+        }
+    }
+
+    private static CompletableFuture<@Nullable Failure> submit(
+            List<String> lines,
+            long firstIndex,
+            LineComparator comparator,
+            AtomicBoolean cancelled,
+            Executor executor) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    for (int i = 0; i < lines.size() && !cancelled.get(); i++) {
+                        Failure failure = comparator.compare(lines.get(i), firstIndex + i);
+                        if (failure != null) {
+                            return failure;
+                        }
+                    }
+                    return null;
+                },
+                executor);
+    }
+
+    private static void failIfDifferent(CompletableFuture<@Nullable Failure> batch) {
+        Failure failure;
+        try {
+            failure = batch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        if (failure != null) {
+            failure.report();
+        }
+    }
+
+    /**
+     * Difference or parsing error on a line, reported by the thread consuming the results.
+     */
+    private interface Failure {
+        void report();
+    }
+
+    private static final class LineComparator {
+        private final Node expected;
+
+        private final Configuration configuration;
+
+        // configuration used to find the lines that do not match, it does not notify the listener
+        private final Configuration matchingConfiguration;
+
+        // null if JsonPaths in the configuration have to be resolved for each line
+        private final @Nullable CompiledConfiguration compiledConfiguration;
+
+        LineComparator(@Nullable Object expected, Configuration configuration) {
+            this.configuration = configuration;
+            this.matchingConfiguration = configuration
+                    .withDifferenceListener(dummyDifferenceListener())
+                    .withOptions(Option.FAIL_FAST);
+            CompiledConfiguration compiled = CompiledConfiguration.compile(matchingConfiguration);
+            this.expected = compiled.convertExpected(expected);
+            this.compiledConfiguration = InternalJsonPathUtils.containsJsonPaths(configuration) ? null : compiled;
+        }
+
+        void failIfDifferent(String line, long index) {
+            Failure failure = compare(line, index);
+            if (failure != null) {
+                failure.report();
+            }
+        }
+
+        @Nullable
+        Failure compare(String line, long index) {
+            if (line.isBlank()) {
+                return null;
+            }
+            String prefix = "[" + index + "]";
+            // line numbers in the messages start from one, the same as in editors
+            String lineName = "line " + (index + 1);
+            try {
+                Node actual = convertToJson(line, "actual " + lineName);
+                CompiledConfiguration compiled = compiledConfiguration;
+                if (compiled == null) {
+                    compiled = CompiledConfiguration.compile(
+                            InternalJsonPathUtils.resolveJsonPaths(actual, matchingConfiguration));
+                }
+                if (Diff.create(expected, actual, Path.root(), compiled).similar()) {
+                    return null;
+                }
+                // compared again to report the differences with the line prefix
+                Diff diff = Diff.create(
+                        expected,
+                        jsonSource(actual, prefix),
+                        "actual",
+                        "",
+                        withPrefix(InternalJsonPathUtils.resolveJsonPaths(actual, configuration), prefix));
+                return () -> diff.failIfDifferent(lineName);
+            } catch (RuntimeException e) {
+                return () -> {
+                    throw e;
+                };
+            }
+        }
+
+        /**
+         * Differences are reported with the line prefix, so the paths in configuration have to be prefixed as well.
+         */
+        private static Configuration withPrefix(Configuration configuration, String prefix) {
+            List<String> pathsToBeIgnored = configuration.getPathsToBeIgnored().stream()
+                    .map(path -> withPrefix(path, prefix))
+                    .toList();
+            List<PathOption> pathOptions = configuration.getPathOptions().stream()
+                    .map(pathOption -> pathOption.withPaths(pathOption.getPaths().stream()
+                            .map(path -> withPrefix(path, prefix))
+                            .toList()))
+                    .toList();
+            return configuration.whenIgnoringPaths(pathsToBeIgnored).withPathOptions(pathOptions);
+        }
+
+        private static String withPrefix(String path, String prefix) {
+            if (path.startsWith("$")) {
+                path = path.substring(1);
+            }
+            if (path.startsWith(".")) {
+                path = path.substring(1);
+            }
+            if (path.isEmpty() || path.startsWith("[")) {
+                return prefix + path;
+            } else {
+                return prefix + "." + path;
+            }
+        }
+    }
+}
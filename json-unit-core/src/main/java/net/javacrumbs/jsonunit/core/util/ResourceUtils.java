@@ -15,14 +15,10 @@
  */
 package net.javacrumbs.jsonunit.core.util;
 
-import static java.lang.String.format;
-import static java.nio.charset.StandardCharsets.UTF_8;
-
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Objects;
+import net.javacrumbs.jsonunit.core.internal.NodeCache;
+import net.javacrumbs.jsonunit.core.internal.ResourceReader;
 
 /**
  * Resource reading utility
@@ -30,16 +26,16 @@ import java.util.Objects;
 public class ResourceUtils {
 
     /**
-     * Helper method to read a classpath resource.
+     * Helper method to read a classpath resource. If {@link ExpectedJsonCache} is enabled, the resource
+     * is parsed only once when used as an expected value.
      */
     public static Reader resource(String resourceName) {
         Objects.requireNonNull(resourceName, "'null' passed instead of resource name");
 
-        final InputStream resourceStream = ClassLoader.getSystemResourceAsStream(resourceName);
-        if (resourceStream == null) {
-            throw new IllegalArgumentException(format("resource '%s' not found", resourceName));
+        if (NodeCache.containsResource(resourceName)) {
+            // opened only if evicted from the cache in the meantime
+            return new ResourceReader(resourceName, null);
         }
-
-        return new BufferedReader(new InputStreamReader(resourceStream, UTF_8));
+        return new ResourceReader(resourceName, ResourceReader.open(resourceName));
     }
 }
@@ -16,27 +16,47 @@
 package net.javacrumbs.jsonunit.jsonpath;
 
 import static com.jayway.jsonpath.JsonPath.using;
+import static java.util.Objects.requireNonNull;
 
+import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.ReadContext;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
 import net.javacrumbs.jsonunit.core.internal.PathOption;
+import net.javacrumbs.jsonunit.jsonpath.NativeJsonPath.UnsupportedPathException;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 @NullMarked
 public class InternalJsonPathUtils {
+    private static final com.jayway.jsonpath.Configuration pathListConfiguration = configurationBuilder()
+            .options(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS)
+            .build();
+
+    static final int MAX_COMPILED_PATHS = 1024;
+
+    // expressions are compiled only once
+    private static final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+
     private InternalJsonPathUtils() {}
 
     public static Configuration resolveJsonPaths(@Nullable Object json, Configuration configuration) {
-        Collection<String> pathsToBeIgnored = resolveJsonPaths(json, configuration.getPathsToBeIgnored());
+        PathResolver resolver = new PathResolver(json);
+        Collection<String> pathsToBeIgnored = resolver.resolve(configuration.getPathsToBeIgnored());
         List<PathOption> pathOptions = configuration.getPathOptions().stream()
                 .map(po -> {
-                    List<String> newPoPaths = resolveJsonPaths(json, po.getPaths());
+                    List<String> newPoPaths = resolver.resolve(po.getPaths());
                     return po.withPaths(newPoPaths);
                 })
                 .toList();
@@ -44,37 +64,135 @@ public class InternalJsonPathUtils {
         return configuration.whenIgnoringPaths(pathsToBeIgnored).withPathOptions(pathOptions);
     }
 
-    private static List<String> resolveJsonPaths(@Nullable Object json, Collection<String> paths) {
-        com.jayway.jsonpath.Configuration conf = com.jayway.jsonpath.Configuration.builder()
-                .options(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS)
-                .build();
+    /**
+     * Returns true if paths in the configuration contain JsonPaths, so they have to be resolved
+     * by {@link #resolveJsonPaths(Object, Configuration)} for each compared document.
+     */
+    public static boolean containsJsonPaths(Configuration configuration) {
+        return Stream.concat(
+                        configuration.getPathsToBeIgnored().stream(),
+                        configuration.getPathOptions().stream().flatMap(pathOption -> pathOption.getPaths().stream()))
+                .anyMatch(path -> path.startsWith("$"));
+    }
+
+    /**
+     * Resolves JsonPaths against the document. The document is parsed only once, when the first JsonPath
+     * is encountered, and each distinct JsonPath is evaluated only once. Paths supported by {@link NativeJsonPath}
+     * are evaluated without Jayway.
+     */
+    private static final class PathResolver {
+        private final @Nullable Object json;
+        private final Map<String, List<String>> resolvedPaths = new HashMap<>();
+        private @Nullable Node node;
+        private @Nullable ReadContext document;
+
+        private PathResolver(@Nullable Object json) {
+            this.json = json;
+        }
 
-        return paths.stream()
-                .flatMap(path -> {
-                    if (path.startsWith("$")) {
-                        if (json == null) {
-                            return Stream.empty();
+        List<String> resolve(Collection<String> paths) {
+            return paths.stream()
+                    .flatMap(path -> {
+                        if (path.startsWith("$")) {
+                            if (json == null) {
+                                return Stream.empty();
+                            }
+                            return resolvedPaths.computeIfAbsent(path, this::resolve).stream();
+                        } else {
+                            return Stream.of(path);
                         }
-                        List<String> resolvedPaths = readValue(conf, json, path);
-                        return resolvedPaths.stream().map(InternalJsonPathUtils::fromBracketNotation);
-                    } else {
-                        return Stream.of(path);
-                    }
-                })
-                .toList();
+                    })
+                    .toList();
+        }
+
+        private List<String> resolve(String path) {
+            NativeJsonPath nativePath = NativeJsonPath.compile(path);
+            if (nativePath != null) {
+                try {
+                    return requireNonNull(nativePath.evaluate(node(), true)).stream()
+                            .map(match -> fromBracketNotation(match.path()))
+                            .toList();
+                } catch (UnsupportedPathException e) {
+                    // evaluated by Jayway
+                }
+            }
+            List<String> paths = document().read(compile(path));
+            return paths.stream()
+                    .map(InternalJsonPathUtils::fromBracketNotation)
+                    .toList();
+        }
+
+        private Node node() {
+            Node result = node;
+            if (result == null) {
+                result = JsonUtils.convertToJson(requireNonNull(json), "actual");
+                node = result;
+            }
+            return result;
+        }
+
+        private ReadContext document() {
+            ReadContext result = document;
+            if (result == null) {
+                result = parse(pathListConfiguration, node());
+                document = result;
+            }
+            return result;
+        }
     }
 
     @SuppressWarnings("TypeParameterUnusedInFormals")
     static <T> T readValue(com.jayway.jsonpath.Configuration conf, @Nullable Object json, String path) {
-        if (json instanceof String string) {
-            return using(conf).parse(string).read(path);
-        } else if (json == null) {
+        if (json == null) {
             throw new PathNotFoundException("Path not found in <null>");
-        } else {
-            return using(conf)
-                    .parse(JsonUtils.convertToJson(json, "actual").getValue())
-                    .read(path);
         }
+        return parse(conf, json).read(compile(path));
+    }
+
+    /**
+     * The document is evaluated directly as a Node, see {@link NodeJsonProvider}.
+     */
+    private static ReadContext parse(com.jayway.jsonpath.Configuration conf, Object json) {
+        Object node = JsonUtils.convertToJson(json, "actual");
+        return using(conf).parse(node);
+    }
+
+    static com.jayway.jsonpath.Configuration.ConfigurationBuilder configurationBuilder() {
+        return com.jayway.jsonpath.Configuration.builder()
+                .jsonProvider(NodeJsonProvider.INSTANCE)
+                .mappingProvider(NodeJsonProvider.MAPPING_PROVIDER);
+    }
+
+    /**
+     * Returns compiled JsonPath, compiled paths are cached.
+     */
+    static JsonPath compile(String path) {
+        return cached(compiledPaths, path, JsonPath::compile);
+    }
+
+    /**
+     * Returns the value from the cache or compiles it. The cache is bounded, so dynamically generated paths
+     * do not leak memory.
+     */
+    static <T> T cached(Map<String, T> cache, String path, Function<String, T> compiler) {
+        T compiled = cache.get(path);
+        if (compiled == null) {
+            compiled = compiler.apply(path);
+            if (cache.size() >= MAX_COMPILED_PATHS) {
+                // evicts an arbitrary entry, good enough to keep the map bounded
+                Iterator<String> iterator = cache.keySet().iterator();
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+            cache.put(path, compiled);
+        }
+        return compiled;
+    }
+
+    static int compiledPathCount() {
+        return compiledPaths.size();
     }
 
     static String fromBracketNotation(String path) {
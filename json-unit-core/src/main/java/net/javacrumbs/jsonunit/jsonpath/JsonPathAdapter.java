@@ -15,37 +15,77 @@
  */
 package net.javacrumbs.jsonunit.jsonpath;
 
-import static com.jayway.jsonpath.Configuration.defaultConfiguration;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.convertToJson;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.getPathPrefix;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.jsonSource;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.missingNode;
 import static net.javacrumbs.jsonunit.core.internal.JsonUtils.wrapDeserializedObject;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.configurationBuilder;
 import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.fromBracketNotation;
 import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.readValue;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.EvaluationListener;
 import com.jayway.jsonpath.PathNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.jsonpath.NativeJsonPath.Match;
+import net.javacrumbs.jsonunit.jsonpath.NativeJsonPath.UnsupportedPathException;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Adapts json-path to json-unit.
  */
 public final class JsonPathAdapter {
+    // created once, only the per call listener is added to it
+    private static final Configuration configuration = configurationBuilder().build();
+
     private JsonPathAdapter() {}
 
     public static Object inPath(@Nullable Object json, String path) {
+        Object document = json;
+        NativeJsonPath nativePath = NativeJsonPath.compile(path);
+        if (nativePath != null && json != null) {
+            Node node = convertToJson(json, "actual");
+            try {
+                return inPath(json, path, nativePath, node);
+            } catch (UnsupportedPathException e) {
+                // evaluated by Jayway, the document does not have to be parsed again
+                document = node;
+            }
+        }
         try {
             MatchRecordingListener recordingListener = new MatchRecordingListener();
-            Object value = readValue(defaultConfiguration().addEvaluationListeners(recordingListener), json, path);
+            Object value = readValue(configuration.addEvaluationListeners(recordingListener), document, path);
             return jsonSource(
-                    wrapDeserializedObject(value), concatJsonPaths(json, path), recordingListener.getMatchingPaths());
+                    // objects and arrays are returned as they are, primitives are converted the same way as before
+                    wrapDeserializedObject(NodeJsonProvider.INSTANCE.unwrap(value)),
+                    concatJsonPaths(json, path),
+                    recordingListener.getMatchingPaths());
         } catch (PathNotFoundException e) {
             return jsonSource(missingNode(), concatJsonPaths(json, path));
         }
     }
 
+    /**
+     * Evaluates the path without Jayway, the result is the same as if evaluated by Jayway.
+     */
+    private static Object inPath(Object json, String path, NativeJsonPath nativePath, Node node) {
+        List<Match> matches = nativePath.evaluate(node, false);
+        if (matches == null) {
+            return jsonSource(missingNode(), concatJsonPaths(json, path));
+        }
+        List<String> matchingPaths = new ArrayList<>(matches.size());
+        List<Object> values = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            matchingPaths.add(fromBracketNotation(match.path()));
+            values.add(match.value());
+        }
+        Object value = nativePath.isDefinite() ? NodeJsonProvider.INSTANCE.unwrap(values.get(0)) : values;
+        return jsonSource(wrapDeserializedObject(value), concatJsonPaths(json, path), matchingPaths);
+    }
+
     private static String concatJsonPaths(@Nullable Object json, String path) {
         String newPathSegment = fromBracketNotation(path);
         String pathPrefix = getPathPrefix(json);
@@ -66,7 +106,10 @@ public final class JsonPathAdapter {
 
         @Override
         public EvaluationContinuation resultFound(FoundResult foundResult) {
-            matchingPaths.add(fromBracketNotation(foundResult.path()));
+            // Jayway reports also relative paths evaluated by filters
+            if (!foundResult.path().startsWith("@")) {
+                matchingPaths.add(fromBracketNotation(foundResult.path()));
+            }
             return EvaluationContinuation.CONTINUE;
         }
 
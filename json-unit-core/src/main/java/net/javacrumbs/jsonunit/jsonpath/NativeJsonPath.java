@@ -0,0 +1,543 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.jsonpath;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Node.KeyValue;
+import net.javacrumbs.jsonunit.core.internal.Node.NodeType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Evaluates the most common subset of JsonPath directly on nodes. Supported are properties in dot and bracket
+ * notation, array indexes, wildcards, deep scan of properties and filters comparing a property with a literal,
+ * for example <code>$.store..book[?(@.price &lt; 10)].title</code>.
+ *
+ * The path is compiled to a list of steps that are evaluated recursively. The results, their order and
+ * their paths are the same as Jayway's. Paths outside of the subset are not compiled, and values the evaluator
+ * can not handle the same way as Jayway, like comparison of a string with a number, throw
+ * {@link UnsupportedPathException}. The callers fall back to Jayway in both cases.
+ */
+final class NativeJsonPath {
+    // Optional.empty() marks paths that are not supported
+    private static final Map<String, Optional<NativeJsonPath>> compiledPaths = new ConcurrentHashMap<>();
+
+    private final Step[] steps;
+
+    // steps up to this index are evaluated with definite upstream path
+    private final int firstIndefiniteStep;
+
+    private NativeJsonPath(List<Step> steps) {
+        this.steps = steps.toArray(new Step[0]);
+        int firstIndefinite = this.steps.length;
+        for (int i = 0; i < this.steps.length; i++) {
+            if (!this.steps[i].definite()) {
+                firstIndefinite = i;
+                break;
+            }
+        }
+        this.firstIndefiniteStep = firstIndefinite;
+    }
+
+    /**
+     * Returns compiled path or null if the path is not supported. Compiled paths are cached.
+     */
+    static @Nullable NativeJsonPath compile(String path) {
+        return InternalJsonPathUtils.cached(compiledPaths, path, p -> Optional.ofNullable(new Parser(p).parse()))
+                .orElse(null);
+    }
+
+    /**
+     * The path does not contain wildcards, deep scans nor filters so it matches at most one value.
+     */
+    boolean isDefinite() {
+        return firstIndefiniteStep == steps.length;
+    }
+
+    /**
+     * Evaluates the path. Returns null if the path was not found, in such case Jayway throws
+     * PathNotFoundException. If exceptions are suppressed, returns all the matches found.
+     *
+     * @throws UnsupportedPathException if the path has to be evaluated by Jayway
+     */
+    @Nullable
+    List<Match> evaluate(Node root, boolean suppressExceptions) {
+        List<Match> matches = new ArrayList<>();
+        try {
+            evaluate(0, root, "$", matches, suppressExceptions);
+        } catch (NotFoundException e) {
+            return null;
+        }
+        if (matches.isEmpty() && isDefinite() && !suppressExceptions) {
+            return null;
+        }
+        return matches;
+    }
+
+    private void evaluate(int index, Node model, String path, List<Match> matches, boolean suppressExceptions) {
+        if (index == steps.length) {
+            matches.add(new Match(path, model));
+            return;
+        }
+        // Jayway fails only if the path up to the step is definite
+        boolean failIfNotFound = index <= firstIndefiniteStep && !suppressExceptions;
+        boolean leaf = index == steps.length - 1;
+        Step step = steps[index];
+        if (step instanceof Property property) {
+            if (model.getNodeType() != NodeType.OBJECT) {
+                notFound(failIfNotFound);
+                return;
+            }
+            Node value = model.get(property.name());
+            if (value.isMissingNode()) {
+                notFound(failIfNotFound && !leaf);
+                return;
+            }
+            evaluate(index + 1, value, path + "['" + property.name() + "']", matches, suppressExceptions);
+        } else if (step instanceof ArrayIndex arrayIndex) {
+            if (model.getNodeType() != NodeType.ARRAY) {
+                notFound(failIfNotFound);
+                return;
+            }
+            int size = model.size();
+            int effectiveIndex = arrayIndex.index() < 0 ? size + arrayIndex.index() : arrayIndex.index();
+            if (effectiveIndex >= 0 && effectiveIndex < size) {
+                evaluate(
+                        index + 1,
+                        model.element(effectiveIndex),
+                        path + "[" + arrayIndex.index() + "]",
+                        matches,
+                        suppressExceptions);
+            }
+        } else if (step instanceof Wildcard) {
+            if (model.getNodeType() == NodeType.OBJECT) {
+                Iterator<KeyValue> fields = model.fields();
+                while (fields.hasNext()) {
+                    KeyValue field = fields.next();
+                    evaluate(
+                            index + 1,
+                            field.getValue(),
+                            path + "['" + field.getKey() + "']",
+                            matches,
+                            suppressExceptions);
+                }
+            } else if (model.getNodeType() == NodeType.ARRAY) {
+                evaluateElements(index + 1, model, path, matches, suppressExceptions, null);
+            }
+        } else if (step instanceof Scan scan) {
+            scan(index, model, path, scan.name(), matches, suppressExceptions);
+        } else if (step instanceof Filter filter) {
+            if (model.getNodeType() == NodeType.OBJECT) {
+                if (filter.accept(model)) {
+                    evaluate(index + 1, model, path, matches, suppressExceptions);
+                }
+            } else if (model.getNodeType() == NodeType.ARRAY) {
+                evaluateElements(index + 1, model, path, matches, suppressExceptions, filter);
+            } else if (index <= firstIndefiniteStep) {
+                // Jayway throws InvalidPathException
+                throw new UnsupportedPathException();
+            }
+        }
+    }
+
+    private void evaluateElements(
+            int index,
+            Node array,
+            String path,
+            List<Match> matches,
+            boolean suppressExceptions,
+            @Nullable Filter filter) {
+        Iterator<Node> elements = array.arrayElements();
+        int i = 0;
+        while (elements.hasNext()) {
+            Node element = elements.next();
+            if (filter == null || filter.accept(element)) {
+                evaluate(index, element, path + "[" + i + "]", matches, suppressExceptions);
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Deep scan, objects having the property are evaluated by the next step, the nodes are visited in
+     * document order.
+     */
+    private void scan(
+            int index, Node model, String path, String name, List<Match> matches, boolean suppressExceptions) {
+        if (model.getNodeType() == NodeType.OBJECT) {
+            if (!model.get(name).isMissingNode()) {
+                evaluate(index + 1, model, path, matches, suppressExceptions);
+            }
+            Iterator<KeyValue> fields = model.fields();
+            while (fields.hasNext()) {
+                KeyValue field = fields.next();
+                scan(index, field.getValue(), path + "['" + field.getKey() + "']", name, matches, suppressExceptions);
+            }
+        } else if (model.getNodeType() == NodeType.ARRAY) {
+            Iterator<Node> elements = model.arrayElements();
+            int i = 0;
+            while (elements.hasNext()) {
+                scan(index, elements.next(), path + "[" + i + "]", name, matches, suppressExceptions);
+                i++;
+            }
+        }
+    }
+
+    private static void notFound(boolean fail) {
+        if (fail) {
+            throw new NotFoundException();
+        }
+    }
+
+    /**
+     * Value found by the path, the path is in bracket notation, the same as Jayway's.
+     */
+    record Match(String path, Node value) {}
+
+    /**
+     * Thrown if the path has to be evaluated by Jayway.
+     */
+    static final class UnsupportedPathException extends RuntimeException {
+        UnsupportedPathException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // without stack trace, it is cheap to create
+    private static final class NotFoundException extends RuntimeException {
+        private NotFoundException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private sealed interface Step {
+        boolean definite();
+    }
+
+    private record Property(String name) implements Step {
+        @Override
+        public boolean definite() {
+            return true;
+        }
+    }
+
+    private record ArrayIndex(int index) implements Step {
+        @Override
+        public boolean definite() {
+            return true;
+        }
+    }
+
+    private record Wildcard() implements Step {
+        @Override
+        public boolean definite() {
+            return false;
+        }
+    }
+
+    /**
+     * Deep scan for objects with given property, always followed by the property step.
+     */
+    private record Scan(String name) implements Step {
+        @Override
+        public boolean definite() {
+            return false;
+        }
+    }
+
+    private enum Operator {
+        EQ("=="),
+        NE("!="),
+        LE("<="),
+        GE(">="),
+        LT("<"),
+        GT(">");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        boolean test(int comparison) {
+            return switch (this) {
+                case EQ -> comparison == 0;
+                case NE -> comparison != 0;
+                case LE -> comparison <= 0;
+                case GE -> comparison >= 0;
+                case LT -> comparison < 0;
+                case GT -> comparison > 0;
+            };
+        }
+    }
+
+    /**
+     * Filter like <code>[?(@.a.b &gt; 1)]</code> or <code>[?(@.a)]</code>, the literal is a number, a string or
+     * a boolean. Operator and literal are null for existence checks.
+     */
+    private record Filter(List<String> properties, @Nullable Operator operator, @Nullable Object literal)
+            implements Step {
+        @Override
+        public boolean definite() {
+            return false;
+        }
+
+        boolean accept(Node item) {
+            Node value = item;
+            for (String property : properties) {
+                if (value.getNodeType() != NodeType.OBJECT) {
+                    value = Node.MISSING_NODE;
+                    break;
+                }
+                value = value.get(property);
+            }
+            if (operator == null) {
+                return !value.isMissingNode();
+            } else if (value.isMissingNode()) {
+                // Jayway compares undefined value as not equal to anything
+                return operator == Operator.NE;
+            } else if (literal instanceof BigDecimal number && value.getNodeType() == NodeType.NUMBER) {
+                return operator.test(value.decimalValue().compareTo(number));
+            } else if (literal instanceof String string && value.getNodeType() == NodeType.STRING) {
+                return operator.test(value.asText().compareTo(string));
+            } else if (literal instanceof Boolean bool
+                    && value.getNodeType() == NodeType.BOOLEAN
+                    && (operator == Operator.EQ || operator == Operator.NE)) {
+                return operator.test(value.asBoolean().equals(bool) ? 0 : 1);
+            } else {
+                // type conversions are left to Jayway
+                throw new UnsupportedPathException();
+            }
+        }
+    }
+
+    /**
+     * Parses the supported subset, returns null for anything else.
+     */
+    private static final class Parser {
+        private final String path;
+        private int position;
+
+        private Parser(String path) {
+            this.path = path;
+        }
+
+        @Nullable
+        NativeJsonPath parse() {
+            if (!path.startsWith("$")) {
+                return null;
+            }
+            position = 1;
+            List<Step> steps = new ArrayList<>();
+            while (position < path.length()) {
+                if (path.startsWith("..", position)) {
+                    position += 2;
+                    String name = path.startsWith("[", position) ? bracketProperty() : dotProperty();
+                    if (name == null) {
+                        return null;
+                    }
+                    steps.add(new Scan(name));
+                    steps.add(new Property(name));
+                } else if (path.startsWith(".*", position)) {
+                    position += 2;
+                    steps.add(new Wildcard());
+                } else if (path.startsWith(".", position)) {
+                    position++;
+                    String name = dotProperty();
+                    if (name == null) {
+                        return null;
+                    }
+                    steps.add(new Property(name));
+                } else if (path.startsWith("[?(", position)) {
+                    Filter filter = filter();
+                    if (filter == null) {
+                        return null;
+                    }
+                    steps.add(filter);
+                } else if (path.startsWith("[", position)) {
+                    Step step = bracket();
+                    if (step == null) {
+                        return null;
+                    }
+                    steps.add(step);
+                } else {
+                    return null;
+                }
+            }
+            return new NativeJsonPath(steps);
+        }
+
+        private @Nullable String dotProperty() {
+            int end = position;
+            while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                end++;
+            }
+            String name = path.substring(position, end);
+            position = end;
+            return isName(name) ? name : null;
+        }
+
+        private @Nullable String bracketProperty() {
+            Step step = bracket();
+            return step instanceof Property property ? property.name() : null;
+        }
+
+        private @Nullable Step bracket() {
+            int end = path.indexOf(']', position);
+            if (end < 0) {
+                return null;
+            }
+            String content = path.substring(position + 1, end);
+            position = end + 1;
+            if (content.equals("*")) {
+                return new Wildcard();
+            }
+            String quoted = quoted(content);
+            if (quoted != null) {
+                return quoted.isEmpty() ? null : new Property(quoted);
+            }
+            if (isInteger(content)) {
+                return new ArrayIndex(Integer.parseInt(content));
+            }
+            return null;
+        }
+
+        private @Nullable Filter filter() {
+            int end = filterEnd(position + 3);
+            if (end < 0) {
+                return null;
+            }
+            String expression = path.substring(position + 3, end).trim();
+            position = end + 2;
+            Operator operator = null;
+            int operatorStart = -1;
+            for (int i = 0; i < expression.length() && operator == null; i++) {
+                for (Operator candidate : Operator.values()) {
+                    if (expression.startsWith(candidate.symbol, i)) {
+                        operator = candidate;
+                        operatorStart = i;
+                        break;
+                    }
+                }
+            }
+            String subject =
+                    operator != null ? expression.substring(0, operatorStart).trim() : expression;
+            if (!subject.startsWith("@.")) {
+                return null;
+            }
+            List<String> properties = List.of(subject.substring(2).split("\\.", -1));
+            if (!properties.stream().allMatch(Parser::isName)) {
+                return null;
+            }
+            if (operator == null) {
+                return new Filter(properties, null, null);
+            }
+            Object literal = literal(expression
+                    .substring(operatorStart + operator.symbol.length())
+                    .trim());
+            return literal != null ? new Filter(properties, operator, literal) : null;
+        }
+
+        /**
+         * Finds ")]" closing the filter, skips string literals.
+         */
+        private int filterEnd(int from) {
+            boolean inString = false;
+            for (int i = from; i < path.length() - 1; i++) {
+                char c = path.charAt(i);
+                if (c == '\'') {
+                    inString = !inString;
+                } else if (!inString && c == ')' && path.charAt(i + 1) == ']') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static @Nullable Object literal(String value) {
+            String quoted = quoted(value);
+            if (quoted != null && value.charAt(0) == '\'') {
+                return quoted;
+            } else if (value.equals("true") || value.equals("false")) {
+                return Boolean.valueOf(value);
+            } else if (isDecimal(value)) {
+                return new BigDecimal(value);
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Content of a quoted string, escapes are not supported.
+         */
+        private static @Nullable String quoted(String value) {
+            if (value.length() < 2) {
+                return null;
+            }
+            char quote = value.charAt(0);
+            if ((quote != '\'' && quote != '"') || value.charAt(value.length() - 1) != quote) {
+                return null;
+            }
+            String content = value.substring(1, value.length() - 1);
+            if (content.indexOf('\'') >= 0 || content.indexOf('"') >= 0 || content.indexOf('\\') >= 0) {
+                return null;
+            }
+            return content;
+        }
+
+        private static boolean isName(String name) {
+            if (name.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isWhitespace(c) || "'\"()[]*?@$,:\\=!<>&|".indexOf(c) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isInteger(String value) {
+            int start = value.startsWith("-") ? 1 : 0;
+            // longer indexes are left to Jayway
+            if (value.length() == start || value.length() - start > 9) {
+                return false;
+            }
+            for (int i = start; i < value.length(); i++) {
+                if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isDecimal(String value) {
+            int dot = value.indexOf('.');
+            if (dot < 0) {
+                return isInteger(value);
+            }
+            String fraction = value.substring(dot + 1);
+            return isInteger(value.substring(0, dot)) && !fraction.startsWith("-") && isInteger(fraction);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.jsonpath;
+
+import com.jayway.jsonpath.TypeRef;
+import com.jayway.jsonpath.spi.json.AbstractJsonProvider;
+import com.jayway.jsonpath.spi.mapper.MappingException;
+import com.jayway.jsonpath.spi.mapper.MappingProvider;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.Node.KeyValue;
+import net.javacrumbs.jsonunit.core.internal.Node.NodeType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Lets Jayway evaluate JsonPath directly on {@link Node}s, so the document does not have to be copied to Java
+ * collections and extracted objects and arrays keep their original representation. Lists and maps created by Jayway
+ * for the results are handled as usual.
+ */
+final class NodeJsonProvider extends AbstractJsonProvider {
+    static final NodeJsonProvider INSTANCE = new NodeJsonProvider();
+
+    static final MappingProvider MAPPING_PROVIDER = new NodeMappingProvider();
+
+    private NodeJsonProvider() {}
+
+    @Override
+    public Object parse(String json) {
+        return JsonUtils.convertToJson(json, "actual");
+    }
+
+    @Override
+    public Object parse(InputStream jsonStream, String charset) {
+        return JsonUtils.convertToJson(new InputStreamReader(jsonStream, Charset.forName(charset)), "actual");
+    }
+
+    @Override
+    public String toJson(Object obj) {
+        return JsonUtils.wrapDeserializedObject(obj).toString();
+    }
+
+    @Override
+    public Object createArray() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public Object createMap() {
+        return new LinkedHashMap<String, Object>();
+    }
+
+    @Override
+    public boolean isArray(@Nullable Object obj) {
+        if (obj instanceof Node node) {
+            return node.getNodeType() == NodeType.ARRAY;
+        }
+        return super.isArray(obj);
+    }
+
+    @Override
+    public boolean isMap(@Nullable Object obj) {
+        if (obj instanceof Node node) {
+            return node.getNodeType() == NodeType.OBJECT;
+        }
+        return super.isMap(obj);
+    }
+
+    @Override
+    public Object getArrayIndex(Object obj, int idx) {
+        if (obj instanceof Node node) {
+            // Jayway expects the exception, missing elements would be reported as found
+            if (idx < 0 || idx >= node.size()) {
+                throw new IndexOutOfBoundsException("Index " + idx + " out of bounds for length " + node.size());
+            }
+            return node.element(idx);
+        }
+        return super.getArrayIndex(obj, idx);
+    }
+
+    @Override
+    public Object getMapValue(Object obj, String key) {
+        if (obj instanceof Node node) {
+            Node value = node.get(key);
+            return value.isMissingNode() ? UNDEFINED : value;
+        }
+        return super.getMapValue(obj, key);
+    }
+
+    @Override
+    public Collection<String> getPropertyKeys(Object obj) {
+        if (obj instanceof Node node) {
+            List<String> keys = new ArrayList<>();
+            Iterator<KeyValue> fields = node.fields();
+            while (fields.hasNext()) {
+                keys.add(fields.next().getKey());
+            }
+            return keys;
+        }
+        return super.getPropertyKeys(obj);
+    }
+
+    @Override
+    public int length(Object obj) {
+        if (obj instanceof Node node) {
+            return switch (node.getNodeType()) {
+                case ARRAY -> node.size();
+                case OBJECT -> getPropertyKeys(node).size();
+                case STRING -> node.asText().length();
+                default -> super.length(unwrap(node));
+            };
+        }
+        return super.length(obj);
+    }
+
+    /**
+     * Primitive values are unwrapped, Jayway expects them when evaluating functions and filters.
+     */
+    @Override
+    public Iterable<?> toIterable(Object obj) {
+        if (obj instanceof Node node) {
+            List<@Nullable Object> elements = new ArrayList<>(node.size());
+            Iterator<Node> iterator = node.arrayElements();
+            while (iterator.hasNext()) {
+                elements.add(unwrap(iterator.next()));
+            }
+            return elements;
+        }
+        return super.toIterable(obj);
+    }
+
+    @Override
+    public void setArrayIndex(Object array, int index, Object newValue) {
+        checkNotNode(array);
+        super.setArrayIndex(array, index, newValue);
+    }
+
+    @Override
+    public void setProperty(Object obj, Object key, Object value) {
+        checkNotNode(obj);
+        super.setProperty(obj, key, value);
+    }
+
+    @Override
+    public void removeProperty(Object obj, Object key) {
+        checkNotNode(obj);
+        super.removeProperty(obj, key);
+    }
+
+    private static void checkNotNode(Object obj) {
+        if (obj instanceof Node) {
+            throw new UnsupportedOperationException("JSON document can not be modified");
+        }
+    }
+
+    /**
+     * Objects and arrays are kept as nodes, primitives are converted to Java values.
+     */
+    @Override
+    public @Nullable Object unwrap(@Nullable Object obj) {
+        if (obj instanceof Node node && !node.isMissingNode()) {
+            return switch (node.getNodeType()) {
+                case OBJECT, ARRAY -> node;
+                default -> node.getValue();
+            };
+        }
+        return obj;
+    }
+
+    /**
+     * Converts nodes to JsonMap and JsonList when Jayway needs Java collections, for example in filters.
+     */
+    private static final class NodeMappingProvider implements MappingProvider {
+        @Override
+        public <T> @Nullable T map(
+                @Nullable Object source, Class<T> targetType, com.jayway.jsonpath.Configuration configuration) {
+            Object value = source instanceof Node node ? node.getValue() : source;
+            if (value == null) {
+                return null;
+            }
+            if (targetType.isInstance(value)) {
+                return targetType.cast(value);
+            }
+            throw new MappingException("Can not map " + value.getClass() + " to " + targetType);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> @Nullable T map(
+                @Nullable Object source, TypeRef<T> targetType, com.jayway.jsonpath.Configuration configuration) {
+            Object value = source instanceof Node node ? node.getValue() : source;
+            if (value == null) {
+                return null;
+            }
+            Class<?> rawType = rawType(targetType.getType());
+            if (rawType != null && rawType.isInstance(value)) {
+                // type arguments can not be checked, the same as in unchecked casts
+                return (T) value;
+            }
+            throw new MappingException("Can not map " + value.getClass() + " to " + targetType.getType());
+        }
+
+        private static @Nullable Class<?> rawType(Type type) {
+            if (type instanceof Class<?> clazz) {
+                return clazz;
+            } else if (type instanceof ParameterizedType parameterizedType) {
+                return rawType(parameterizedType.getRawType());
+            } else {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.providers;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Interface for adding support for custom JSON types, for example Vert.x JsonObject.
+ * Register implementations using {@link java.util.ServiceLoader}. @see <a href="https://docs.oracle.com/javase/tutorial/sound/SPI-intro.html">SPI intro</a>
+ *
+ * @param <T> supported type
+ */
+public interface JsonValueConverter<T> {
+    /**
+     * Type handled by this converter, subtypes are handled as well.
+     */
+    Class<T> getSupportedType();
+
+    /**
+     * Converts the value to a type JsonUnit already understands. Return the underlying Map or List to avoid copying,
+     * they are wrapped lazily. String is parsed as JSON. Values of types supported by the JSON library on the classpath,
+     * like Jackson JsonNode, can be returned as well.
+     */
+    @Nullable
+    Object convert(T value);
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static net.javacrumbs.jsonunit.core.internal.Converter.LIBRARIES_PROPERTY_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BeanNodeFactoryTest {
+    private final Converter converter = new Converter(List.of(new Jackson2NodeFactory()), List.of(), true);
+
+    @Test
+    void shouldReadRecordComponents() {
+        Node node = convert(new Person("Lukas", 42, List.of(new Person("Child", 1, List.of()))));
+        assertThat(node).isInstanceOf(BeanNodeFactory.BeanNode.class);
+        assertThat(node.get("name").asText()).isEqualTo("Lukas");
+        assertThat(node.get("age").decimalValue()).isEqualTo(BigDecimal.valueOf(42));
+        assertThat(node.get("children").element(0)).isInstanceOf(BeanNodeFactory.BeanNode.class);
+        assertThat(node.get("children").element(0).get("name").asText()).isEqualTo("Child");
+        assertThat(node.get("unknown").isMissingNode()).isTrue();
+        assertThat(node)
+                .hasToString(
+                        "{\"name\":\"Lukas\",\"age\":42,\"children\":[{\"name\":\"Child\",\"age\":1,\"children\":[]}]}");
+    }
+
+    @Test
+    void shouldReadBeanProperties() {
+        Node node = convert(new Bean());
+        assertThat(node.get("url").asText()).isEqualTo("http://example.com");
+        assertThat(node.get("active").asBoolean()).isTrue();
+        assertThat(node.get("field").asText()).isEqualTo("value");
+        assertThat(node.get("type").asText()).isEqualTo("B");
+        assertThat(node.get("tags").size()).isEqualTo(1);
+        assertThat(node.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReadPropertiesLazilyAndOnlyOnce() {
+        Lazy lazy = new Lazy();
+        Node node = convert(lazy);
+        assertThat(lazy.reads).hasValue(0);
+        node.get("value");
+        node.get("value");
+        assertThat(lazy.reads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotReadNestedPropertiesUntilNeeded() {
+        Lazy lazy = new Lazy();
+        Node node = convert(new Wrapper(1, lazy));
+        assertThat(node.get("a").decimalValue()).isEqualTo(BigDecimal.ONE);
+        assertThat(node.get("lazy").isObject()).isTrue();
+        assertThat(lazy.reads).hasValue(0);
+    }
+
+    @Test
+    void shouldUseLibrariesForTheirTypes() {
+        assertThat(convert(BooleanNode.TRUE)).isInstanceOf(Jackson2NodeFactory.Jackson2Node.class);
+        assertThat(convert("{}")).isInstanceOf(Jackson2NodeFactory.Jackson2Node.class);
+        assertThat(convert(Set.of(1))).isInstanceOf(Jackson2NodeFactory.Jackson2Node.class);
+    }
+
+    @Test
+    void shouldBeEnabledBySystemProperty() {
+        System.setProperty(LIBRARIES_PROPERTY_NAME, "beans");
+        try {
+            Converter converter = Converter.createDefaultConverter();
+            assertThat(converter.factories()).isNotEmpty();
+            assertThat(converter.convertToNode(new Bean(), "", false)).isInstanceOf(BeanNodeFactory.BeanNode.class);
+        } finally {
+            System.setProperty(LIBRARIES_PROPERTY_NAME, "");
+        }
+    }
+
+    private Node convert(Object value) {
+        return converter.convertToNode(value, "actual", false);
+    }
+
+    record Wrapper(int a, Lazy lazy) {}
+
+    record Person(String name, int age, List<Person> children) {}
+
+    enum Type {
+        A,
+        B
+    }
+
+    public static class Bean {
+        public String field = "value";
+
+        public String getURL() {
+            return "http://example.com";
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public Type getType() {
+            return Type.B;
+        }
+
+        public Set<String> getTags() {
+            return Set.of("tag");
+        }
+    }
+
+    public static class Lazy {
+        private final AtomicInteger reads = new AtomicInteger();
+
+        public int getValue() {
+            reads.incrementAndGet();
+            return 1;
+        }
+
+        public int getOther() {
+            reads.incrementAndGet();
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.Option;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class CompiledConfigurationTest {
+    private final CompiledConfiguration exact = CompiledConfiguration.compile(Configuration.empty());
+
+    @Test
+    void shouldHashEqualValuesTheSame() {
+        assertEquals(hash("{\"a\": 1, \"b\": [true, null, \"x\"]}"), hash("{\"b\": [true, null, \"x\"], \"a\": 1}"));
+    }
+
+    @Test
+    void shouldHashDifferentValuesDifferently() {
+        assertNotEquals(hash("[1, 2]"), hash("[2, 1]"));
+        assertNotEquals(hash("1"), hash("1.0"));
+        assertNotEquals(hash("{\"a\": 1}"), hash("{\"a\": 1, \"b\": 1}"));
+        assertNotEquals(hash("\"1\""), hash("1"));
+    }
+
+    @Test
+    void shouldNotHashPlaceholders() {
+        assertNull(hash("{\"a\": \"${json-unit.any-number}\"}"));
+        assertNull(hash("[\"#{json-unit.ignore}\"]"));
+        assertNull(hash("\"${json-unit.regex}[a-z]+\""));
+    }
+
+    @Test
+    void shouldNotHashIfConfigurationIsNotExact() {
+        assertNull(hash(Configuration.empty().withOptions(Option.IGNORING_ARRAY_ORDER), "[1, 2]"));
+        assertNull(hash(Configuration.empty().withTolerance(BigDecimal.ZERO), "1"));
+        assertNull(hash(Configuration.empty().whenIgnoringPaths("a"), "{\"a\": 1}"));
+    }
+
+    @Test
+    void shouldHashNodeInPath() {
+        Node root = exact.convertActual("{\"a\": [1, 2]}", "actual");
+        assertEquals(hash("[1, 2]"), exact.exactHash(root, Path.create("a")));
+        assertNull(exact.exactHash(root, Path.create("b")));
+    }
+
+    @Test
+    void shouldCompareConvertedNodes() {
+        Node expected = exact.convertExpected("{\"a\": \"${json-unit.any-number}\"}");
+        assertTrue(Diff.create(expected, exact.convertActual("{\"a\": 1}", "actual"), Path.root(), exact)
+                .similar());
+        assertFalse(Diff.create(expected, exact.convertActual("{\"a\": true}", "actual"), Path.root(), exact)
+                .similar());
+    }
+
+    private @Nullable Integer hash(String json) {
+        return hash(Configuration.empty(), json);
+    }
+
+    private static @Nullable Integer hash(Configuration configuration, String json) {
+        CompiledConfiguration compiled = CompiledConfiguration.compile(configuration);
+        return compiled.exactHash(compiled.convertExpected(json), Path.root());
+    }
+}
@@ -27,6 +27,11 @@ import static org.junit.jupiter.api.Assertions.fail;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import kotlinx.serialization.json.JsonElement;
+import kotlinx.serialization.json.JsonElementKt;
+import net.javacrumbs.jsonunit.providers.JsonValueConverter;
 import org.junit.jupiter.api.Test;
 
 class ConverterTest {
@@ -52,6 +57,28 @@ class ConverterTest {
         assertEquals(Jackson2NodeFactory.Jackson2Node.class, node.getClass());
     }
 
+    @Test
+    void shouldUseValueConverter() {
+        Converter converter =
+                new Converter(List.of(new Jackson2NodeFactory()), List.of(new DocumentConverter()), false);
+        Node node = converter.convertToNode(new Document(Map.of("test", 1)), "", false);
+        assertEquals(GenericNodeBuilder.ObjectNode.class, node.getClass());
+        assertThat(node.get("test").decimalValue()).isEqualByComparingTo("1");
+    }
+
+    @Test
+    void shouldFailIfValueConverterReturnsTheSameType() {
+        JsonValueConverter<Document> valueConverter = new DocumentConverter() {
+            @Override
+            public Object convert(Document value) {
+                return value;
+            }
+        };
+        Converter converter = new Converter(List.of(new Jackson2NodeFactory()), List.of(valueConverter), false);
+        assertThatThrownBy(() -> converter.convertToNode(new Document(Map.of()), "", false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void shouldUseOnlyFactorySpecifiedBySystemProperty() {
         System.setProperty(LIBRARIES_PROPERTY_NAME, "gson");
@@ -70,6 +97,34 @@ class ConverterTest {
         System.setProperty(LIBRARIES_PROPERTY_NAME, "");
     }
 
+    @Test
+    void shouldUseTapeFactoryForTextAndTheOtherLibraryForObjects() {
+        System.setProperty(LIBRARIES_PROPERTY_NAME, "tape,jackson2");
+        Converter converter = Converter.createDefaultConverter();
+        assertThat(converter.factories())
+                .extracting("class")
+                .containsExactly(TapeNodeFactory.class, Jackson2NodeFactory.class);
+        assertEquals(
+                TapeNodeFactory.TapeNode.class,
+                converter.convertToNode(JSON, "", false).getClass());
+        assertEquals(
+                Jackson2NodeFactory.Jackson2Node.class,
+                converter.convertToNode(BooleanNode.TRUE, "", false).getClass());
+        System.setProperty(LIBRARIES_PROPERTY_NAME, "");
+    }
+
+    @Test
+    void shouldPreferKotlinxFactoryForJsonElements() {
+        Converter converter = new Converter(Arrays.asList(new KotlinxNodeFactory(), new Jackson2NodeFactory()));
+        JsonElement element = JsonElementKt.JsonPrimitive(1);
+        assertEquals(
+                KotlinxNodeFactory.KotlinxNode.class,
+                converter.convertToNode(element, "", false).getClass());
+        assertEquals(
+                Jackson2NodeFactory.Jackson2Node.class,
+                converter.convertToNode(JSON, "", false).getClass());
+    }
+
     @Test
     void shouldFailOnUnknownFactory() {
         System.setProperty(LIBRARIES_PROPERTY_NAME, "unknown");
@@ -99,4 +154,18 @@ class ConverterTest {
         Node node = converter.convertToNode(BooleanNode.TRUE, "", false);
         assertTrue(node.isIntegralNumber());
     }
+
+    private record Document(Map<String, Object> content) {}
+
+    private static class DocumentConverter implements JsonValueConverter<Document> {
+        @Override
+        public Class<Document> getSupportedType() {
+            return Document.class;
+        }
+
+        @Override
+        public Object convert(Document value) {
+            return value.content();
+        }
+    }
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.javacrumbs.jsonunit.providers.Jackson3ObjectMapperProvider;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.json.JsonReadFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class Jackson3NodeFactoryTest {
+    private final Jackson3NodeFactory factory = new Jackson3NodeFactory();
+
+    @Test
+    void strictReaderShouldRejectLenientSyntax() {
+        assertThat(factory.convertToNode("{\"a\": 1}", "actual", false).get("a").decimalValue())
+                .isEqualTo(BigDecimal.ONE);
+        assertThatThrownBy(() -> factory.convertToNode("{a: 1}", "actual", false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> factory.convertToNode("{'a': 1}", "actual", false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> factory.convertToNode("[1] // comment", "actual", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lenientReaderShouldAcceptLenientSyntax() {
+        // strict parsing first, so that both readers are already cached
+        assertThatThrownBy(() -> factory.convertToNode("{a: 1}", "actual", false))
+                .isInstanceOf(IllegalArgumentException.class);
+        Node node = factory.convertToNode("{a: 1, 'b': /* comment */ 2}", "expected", true);
+        assertThat(node.get("a").decimalValue()).isEqualTo(BigDecimal.ONE);
+        assertThat(node.get("b").decimalValue()).isEqualTo(BigDecimal.valueOf(2));
+    }
+
+    @Test
+    void shouldResolveProviderOnlyOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger mapperRequests = new AtomicInteger();
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper lenientMapper = JsonMapper.builder()
+                .enable(JsonReadFeature.ALLOW_UNQUOTED_PROPERTY_NAMES)
+                .build();
+        Jackson3ObjectMapperProvider provider = lenient -> {
+            mapperRequests.incrementAndGet();
+            return lenient ? lenientMapper : mapper;
+        };
+        Jackson3NodeFactory countingFactory = new Jackson3NodeFactory(() -> {
+            lookups.incrementAndGet();
+            return provider;
+        });
+
+        for (int i = 0; i < 3; i++) {
+            countingFactory.convertToNode("{\"a\": 1}", "actual", false);
+            countingFactory.convertToNode("{a: 1}", "expected", true);
+            countingFactory.convertToNode("{\"a\": 1}".getBytes(UTF_8), "actual", false);
+            countingFactory.convertToNode(new TestBean(1), "actual", false);
+        }
+
+        assertThat(lookups).hasValue(1);
+        assertThat(mapperRequests).hasValue(2);
+        assertThatThrownBy(() -> countingFactory.convertToNode("{a: 1}", "actual", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public record TestBean(int a) {}
+}
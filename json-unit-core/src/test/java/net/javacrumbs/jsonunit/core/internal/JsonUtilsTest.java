@@ -151,4 +151,19 @@ class JsonUtilsTest {
         // JSON string has to be double escaped (once for Java, once for JSON)
         assertFalse(nodeAbsent("{\"test\\\\backslash\":{\"value\":1}}", Path.create("test\\backslash"), false));
     }
+
+    @Test
+    void shouldReusePathForDifferentDocuments() throws IOException {
+        Path path = Path.create("a\\.b[-1].c");
+        assertEquals(
+                2,
+                path.getNode(getNode(mapper.readTree("{\"a.b\":[{\"c\":1},{\"c\":2}]}"), ""))
+                        .decimalValue()
+                        .intValue());
+        assertEquals(
+                3,
+                path.getNode(getNode(mapper.readTree("{\"a.b\":[{\"c\":3}]}"), ""))
+                        .decimalValue()
+                        .intValue());
+    }
 }
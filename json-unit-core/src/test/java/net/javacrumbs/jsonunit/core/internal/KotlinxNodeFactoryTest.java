@@ -0,0 +1,102 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import kotlinx.serialization.json.JsonElementKt;
+import kotlinx.serialization.json.JsonObject;
+import net.javacrumbs.jsonunit.core.Configuration;
+import org.junit.jupiter.api.Test;
+
+class KotlinxNodeFactoryTest {
+    private final KotlinxNodeFactory factory = new KotlinxNodeFactory();
+
+    @Test
+    void shouldWrapJsonElement() {
+        JsonObject object = new JsonObject(Map.of(
+                "a", JsonElementKt.JsonPrimitive(1.50),
+                "b", JsonElementKt.JsonPrimitive("1"),
+                "c", JsonElementKt.JsonPrimitive(true)));
+        Node node = factory.convertToNode(object, "actual", false);
+        assertThat(node.getNodeType()).isEqualTo(Node.NodeType.OBJECT);
+        assertThat(node.get("a").getNodeType()).isEqualTo(Node.NodeType.NUMBER);
+        assertThat(node.get("a").decimalValue()).isEqualTo(new BigDecimal("1.5"));
+        assertThat(node.get("b").getNodeType()).isEqualTo(Node.NodeType.STRING);
+        assertThat(node.get("c").asBoolean()).isTrue();
+        assertThat(node.get("missing").isMissingNode()).isTrue();
+    }
+
+    @Test
+    void shouldKeepNumberContent() {
+        Node node = read("[12345678901234567890, -1.50, 1e3]", false);
+        assertThat(node.element(0).decimalValue()).isEqualTo(new BigDecimal("12345678901234567890"));
+        assertThat(node.element(0).isIntegralNumber()).isTrue();
+        assertThat(node.element(1).decimalValue()).isEqualTo(new BigDecimal("-1.50"));
+        assertThat(node.element(2).isIntegralNumber()).isFalse();
+    }
+
+    @Test
+    void shouldParseLeniently() {
+        Node node = read("{a: b, /* comment */ \"c\": [1, 2]}", true);
+        assertThat(node.get("a").asText()).isEqualTo("b");
+        assertThat(node.get("c").element(1).decimalValue()).isEqualTo(BigDecimal.valueOf(2));
+    }
+
+    @Test
+    void shouldTreatNonNumericUnquotedLiteralAsString() {
+        Node node = read("{a: 1abc, b: -x, c: 12}", true);
+        assertThat(node.get("a").getNodeType()).isEqualTo(Node.NodeType.STRING);
+        assertThat(node.get("a").asText()).isEqualTo("1abc");
+        assertThat(node.get("b").getNodeType()).isEqualTo(Node.NodeType.STRING);
+        assertThat(node.get("c").getNodeType()).isEqualTo(Node.NodeType.NUMBER);
+        assertThat(node.get("c").decimalValue()).isSameAs(node.get("c").decimalValue());
+        assertThat(Diff.create("{\"a\": \"1abc\", \"b\": \"-x\", \"c\": 12}", node, "", "", Configuration.empty())
+                        .similar())
+                .isTrue();
+    }
+
+    @Test
+    void shouldCheckNumberGrammar() {
+        assertThat(KotlinxNodeFactory.isNumber("0")).isTrue();
+        assertThat(KotlinxNodeFactory.isNumber("-12.50")).isTrue();
+        assertThat(KotlinxNodeFactory.isNumber("1e3")).isTrue();
+        assertThat(KotlinxNodeFactory.isNumber("-1.5E-3")).isTrue();
+        assertThat(KotlinxNodeFactory.isNumber("")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("-")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("01")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("1.")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber(".5")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("1e")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("+1")).isFalse();
+        assertThat(KotlinxNodeFactory.isNumber("NaN")).isFalse();
+    }
+
+    @Test
+    void shouldFailOnInvalidJson() {
+        assertThatThrownBy(() -> read("{\"a\": 1", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse actual value: '{\"a\": 1'");
+        assertThatThrownBy(() -> read("{a: 1}", false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Node read(String json, boolean lenient) {
+        return factory.convertToNode(json, "actual", lenient);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static net.javacrumbs.jsonunit.core.util.ResourceUtils.resource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import net.javacrumbs.jsonunit.core.util.ExpectedJsonCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class NodeCacheTest {
+    private static final String RESOURCE = "big-json-with-common-keys-expected.json";
+
+    @AfterEach
+    void disableCache() {
+        ExpectedJsonCache.disable();
+    }
+
+    @Test
+    void shouldNotCacheByDefault() {
+        Node first = JsonUtils.convertExpectedToJson("{\"a\": 1}", "expected");
+        Node second = JsonUtils.convertExpectedToJson("{\"a\": 1}", "expected");
+        assertThat(first).isNotSameAs(second);
+        assertThat(ExpectedJsonCache.statistics()).isEqualTo(new ExpectedJsonCache.Statistics(0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void shouldCacheStrings() {
+        ExpectedJsonCache.enable(10);
+        Node first = JsonUtils.convertExpectedToJson("{\"a\": 1}", "expected");
+        Node second = JsonUtils.convertExpectedToJson("{\"a\": 1}", "expected");
+        assertThat(first).isSameAs(second);
+        assertThat(ExpectedJsonCache.statistics()).isEqualTo(new ExpectedJsonCache.Statistics(1, 1, 0, 1, 10));
+    }
+
+    @Test
+    void shouldNotCacheActualValues() {
+        ExpectedJsonCache.enable(10);
+        Node first = JsonUtils.convertToJson("{\"a\": 1}", "actual");
+        Node second = JsonUtils.convertToJson("{\"a\": 1}", "actual");
+        assertThat(first).isNotSameAs(second);
+        assertThat(ExpectedJsonCache.statistics().size()).isZero();
+    }
+
+    @Test
+    void shouldCacheResources() {
+        ExpectedJsonCache.enable(10);
+        Node first = JsonUtils.convertExpectedToJson(resource(RESOURCE), "expected");
+        Node second = JsonUtils.convertExpectedToJson(resource(RESOURCE), "expected");
+        assertThat(first).isSameAs(second);
+        assertThat(NodeCache.containsResource(RESOURCE)).isTrue();
+        assertThat(ExpectedJsonCache.statistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadEvictedResource() {
+        ExpectedJsonCache.enable(10);
+        JsonUtils.convertExpectedToJson(resource(RESOURCE), "expected");
+        Reader reader = resource(RESOURCE);
+        ExpectedJsonCache.clear();
+        assertThat(JsonUtils.convertExpectedToJson(reader, "expected").isObject())
+                .isTrue();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        ExpectedJsonCache.enable(2);
+        Node one = JsonUtils.convertExpectedToJson("1", "expected");
+        JsonUtils.convertExpectedToJson("2", "expected");
+        JsonUtils.convertExpectedToJson("1", "expected");
+        JsonUtils.convertExpectedToJson("3", "expected");
+
+        assertThat(JsonUtils.convertExpectedToJson("1", "expected")).isSameAs(one);
+        assertThat(ExpectedJsonCache.statistics()).isEqualTo(new ExpectedJsonCache.Statistics(2, 3, 1, 2, 2));
+    }
+
+    @Test
+    void shouldNotAcceptInvalidSize() {
+        assertThatThrownBy(() -> ExpectedJsonCache.enable(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -43,7 +44,12 @@ class NodeFactoryTest {
     @Parameters
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] {
-            {new JsonOrgNodeFactory()}, {new Jackson2NodeFactory()}, {new GsonNodeFactory()}, {new MoshiNodeFactory()},
+            {new JsonOrgNodeFactory()},
+            {new Jackson2NodeFactory()},
+            {new GsonNodeFactory()},
+            {new MoshiNodeFactory()},
+            {new TapeNodeFactory()},
+            {new KotlinxNodeFactory()},
         });
     }
 
@@ -125,6 +131,13 @@ class NodeFactoryTest {
         assertEquals("two", node.element(1).asText());
     }
 
+    @Test
+    public void shouldReadLongTextFromReader() {
+        String text = "\uD83D\uDE00".repeat(3000);
+        Node node = factory.readValue(new StringReader("\"" + text + "\""), "label", false);
+        assertEquals(text, node.asText());
+    }
+
     private Node read(String value) {
         return factory.readValue(toReader(value), "label", false);
     }
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -17,4 +19,46 @@ class NodeTest {
         Map<String, Object> value = (Map<String, Object>) requireNonNull(node.getValue());
         assertThat(value.entrySet().iterator().next()).isEqualTo(new SimpleEntry<>("b", valueOf(1)));
     }
+
+    @Test
+    void shouldWrapChildrenOnlyOnce() {
+        for (AbstractNodeFactory factory : List.of(
+                new Jackson2NodeFactory(),
+                new Jackson3NodeFactory(),
+                new GsonNodeFactory(),
+                new JohnzonNodeFactory(),
+                new KotlinxNodeFactory())) {
+            Node node = factory.convertToNode("{\"a\": [1, {\"b\": 2}]}", "test", false);
+            Node array = node.get("a");
+            assertThat(array)
+                    .isSameAs(node.get("a"))
+                    .isSameAs(node.fields().next().getValue());
+            assertThat(array.element(1)).isSameAs(array.element(1));
+            assertThat(array.arrayElements().next()).isSameAs(array.element(0));
+            assertThat(array.element(2).isMissingNode()).isTrue();
+            assertThat(array.element(-1).isMissingNode()).isTrue();
+            assertThat(node.get("c").isMissingNode()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepFieldOrderWhenSomeFieldsWereAlreadyWrapped() {
+        for (AbstractNodeFactory factory : List.of(
+                new Jackson2NodeFactory(),
+                new Jackson3NodeFactory(),
+                new GsonNodeFactory(),
+                new JohnzonNodeFactory(),
+                new KotlinxNodeFactory())) {
+            Node node = factory.convertToNode("{\"a\": 1, \"b\": {\"c\": 2}, \"d\": 3}", "test", false);
+            Node b = node.get("b");
+            assertThat(node.get("x").isMissingNode()).isTrue();
+            Iterator<Node.KeyValue> fields = node.fields();
+            assertThat(fields.next().getKey()).isEqualTo("a");
+            assertThat(fields.next().getValue()).isSameAs(b);
+            assertThat(fields.next().getKey()).isEqualTo("d");
+            assertThat(fields.hasNext()).isFalse();
+            assertThat(node.get("b")).isSameAs(b);
+            assertThat(node.get("x").isMissingNode()).isTrue();
+        }
+    }
 }
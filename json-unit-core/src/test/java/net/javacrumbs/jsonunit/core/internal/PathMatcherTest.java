@@ -18,6 +18,7 @@ package net.javacrumbs.jsonunit.core.internal;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class PathMatcherTest {
@@ -43,14 +44,61 @@ class PathMatcherTest {
     @Test
     void shouldMatchWithArrayWildcard() {
         assertTrue(create("root.*.array[*].next").matches("root.*.array[2].next"));
-        assertFalse(create("root.*.array[*].next").matches("root.x.array[2].next"));
+        assertTrue(create("root.*.array[*].next").matches("root.x.array[2].next"));
         assertFalse(create("root.*.array[*].next").matches("root.*.array[2].next2"));
+        assertFalse(create("root.*.array[*].next").matches("root.x.array.next"));
     }
 
     @Test
     void shouldMatchWithArrayWildcardWice() {
         assertTrue(create("root.*.array[*].next[*]").matches("root.*.array[2].next[1]"));
-        assertFalse(create("root.*.array[*].next[*]").matches("root.x.array[2].next[1]"));
+        assertTrue(create("root.*.array[*].next[*]").matches("root.x.array[2].next[1]"));
+        assertFalse(create("root.*.array[*].next[*]").matches("root.x.array[2].next"));
+    }
+
+    @Test
+    void shouldMatchFieldWildcard() {
+        assertTrue(create("root.*.next").matches("root.a.next"));
+        assertFalse(create("root.*.next").matches("root.next"));
+        assertFalse(create("root.*.next").matches("root[1].next"));
+        assertFalse(create("root.*.next").matches("root.a.b.next"));
+    }
+
+    @Test
+    void shouldMatchDeepWildcard() {
+        PathMatcher matcher = create("**.timestamp");
+        assertTrue(matcher.matches("timestamp"));
+        assertTrue(matcher.matches("a.timestamp"));
+        assertTrue(matcher.matches("a[1].b[2][3].timestamp"));
+        assertFalse(matcher.matches("a.timestamp.b"));
+        assertFalse(matcher.matches("a.timestamp2"));
+    }
+
+    @Test
+    void shouldMatchDeepWildcardInTheMiddle() {
+        PathMatcher matcher = create("$.root.**.id");
+        assertTrue(matcher.matches("root.id"));
+        assertTrue(matcher.matches("root.a.id"));
+        assertTrue(matcher.matches("root.a[0].id.id"));
+        assertFalse(matcher.matches("other.id"));
+        assertTrue(create("root.**").matches("root.a[1]"));
+        assertFalse(create("root.**").matches("other"));
+    }
+
+    @Test
+    void shouldMatchAnyOfThePatterns() {
+        PathMatcher matcher = PathMatcher.create(List.of("a.*.c", "a.b.**.d", "**.e[*]", "f", "$.g"));
+        assertTrue(matcher.matches("a.x.c"));
+        assertTrue(matcher.matches("a.b.c"));
+        assertTrue(matcher.matches("a.b.d"));
+        assertTrue(matcher.matches("a.b.c.d"));
+        assertTrue(matcher.matches("x.y.e[1]"));
+        assertTrue(matcher.matches("f"));
+        assertTrue(matcher.matches("g"));
+        assertTrue(matcher.matches("$.g"));
+        assertFalse(matcher.matches("a.x.d"));
+        assertFalse(matcher.matches("x.e"));
+        assertFalse(matcher.matches("f.g"));
     }
 
     private PathMatcher create(String s) {
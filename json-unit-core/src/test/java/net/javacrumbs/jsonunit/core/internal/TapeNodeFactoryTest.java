@@ -0,0 +1,173 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TapeNodeFactoryTest {
+    private final TapeNodeFactory factory = new TapeNodeFactory();
+
+    @Test
+    void shouldNavigateDocument() {
+        Node node = read("{\"a\": [1, {\"b\": null}, \"x\"], \"c\": true, \"d\": -1.50}", false);
+        assertThat(node.getNodeType()).isEqualTo(Node.NodeType.OBJECT);
+        assertThat(node.size()).isEqualTo(3);
+        assertThat(node.get("a").size()).isEqualTo(3);
+        assertThat(node.get("a").element(1).get("b").isNull()).isTrue();
+        assertThat(node.get("a").element(2).asText()).isEqualTo("x");
+        assertThat(node.get("a").element(3).isMissingNode()).isTrue();
+        assertThat(node.get("c").asBoolean()).isTrue();
+        assertThat(node.get("d").decimalValue()).isEqualTo(new BigDecimal("-1.50"));
+        assertThat(node.get("missing").isMissingNode()).isTrue();
+        assertThat(node).hasToString("{\"a\":[1,{\"b\":null},\"x\"],\"c\":true,\"d\":-1.50}");
+    }
+
+    @Test
+    void shouldParseNumbers() {
+        assertThat(read("123456789012345678", false).isIntegralNumber()).isTrue();
+        assertThat(read("12345678901234567890", false).decimalValue())
+                .isEqualTo(new BigDecimal("12345678901234567890"));
+        assertThat(read("12345678901234567890", false).isIntegralNumber()).isTrue();
+        assertThat(read("1e3", false).isIntegralNumber()).isFalse();
+        assertThat(read("1.0", false).isIntegralNumber()).isFalse();
+        assertThat(read("-0", false).decimalValue()).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldDecodeEscapes() {
+        Node node = read("\"a\\\"b\\\\c\\n\\u010d\"", false);
+        assertThat(node.asText()).isEqualTo("a\"b\\c\nč");
+        assertThat(node).hasToString("\"a\\\"b\\\\c\\nč\"");
+    }
+
+    @Test
+    void shouldUseLastDuplicateKey() {
+        assertThat(read("{\"a\": 1, \"a\": 2}", false).get("a").decimalValue()).isEqualTo(BigDecimal.valueOf(2));
+    }
+
+    @Test
+    void shouldUseLastDuplicateKeyInIndexedObject() {
+        String fields =
+                IntStream.range(0, 20).mapToObj(i -> "\"k" + i + "\": " + i).collect(joining(", "));
+        Node node = read("{" + fields + ", \"k3\": \"last\"}", false);
+        assertThat(node.get("k3").asText()).isEqualTo("last");
+        assertThat(node.get("k19").decimalValue()).isEqualTo(BigDecimal.valueOf(19));
+        assertThat(node.get("k20").isMissingNode()).isTrue();
+    }
+
+    @Test
+    void shouldAccessElementsOfDifferentSizes() {
+        Node node = read("[1, \"a\", [2, 3], {\"b\": []}, 1.5, 123456789012345678901, null]", false);
+        assertThat(node.element(0).decimalValue()).isEqualTo(BigDecimal.ONE);
+        assertThat(node.element(1).asText()).isEqualTo("a");
+        assertThat(node.element(2).element(1).decimalValue()).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(node.element(3).get("b").size()).isZero();
+        assertThat(node.element(4).decimalValue()).isEqualTo(new BigDecimal("1.5"));
+        assertThat(node.element(5).decimalValue()).isEqualTo(new BigDecimal("123456789012345678901"));
+        assertThat(node.element(6).isNull()).isTrue();
+        assertThat(node.element(7).isMissingNode()).isTrue();
+    }
+
+    @Test
+    void shouldAccessElementsOfTheSameSize() {
+        Node node = read("[[1, 2], [3, 4], [5, 6]]", false);
+        assertThat(node.element(2).element(0).decimalValue()).isEqualTo(BigDecimal.valueOf(5));
+        assertThat(read("[-1, 2, 3]", false).element(2).decimalValue()).isEqualTo(BigDecimal.valueOf(3));
+    }
+
+    @Test
+    void shouldReadInputBiggerThanBuffer() {
+        String encoded = "ab\\\"c".repeat(10_000);
+        String json = "[" + "\"x\", ".repeat(10_000) + "\"" + encoded + "\"]";
+        Node node = factory.convertToNode(new StringReader(json), "actual", false);
+        assertThat(node.size()).isEqualTo(10_001);
+        assertThat(node.element(9_999).asText()).isEqualTo("x");
+        assertThat(node.element(10_000).asText()).isEqualTo("ab\"c".repeat(10_000));
+    }
+
+    @Test
+    void shouldReadBytes() {
+        byte[] bytes = "--{\"a\": \"\u010d\"}--".getBytes(UTF_8);
+        Node node = factory.convertToNode(ByteBuffer.wrap(bytes, 2, bytes.length - 4), "actual", false);
+        assertThat(node.get("a").asText()).isEqualTo("\u010d");
+    }
+
+    @Test
+    void shouldReadDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32)
+                .put("{\"a\": [1, 2]}".getBytes(UTF_8))
+                .flip();
+        assertThat(factory.convertToNode(buffer, "actual", false)).hasToString("{\"a\":[1,2]}");
+        assertThat(buffer.position()).isZero();
+        assertThatThrownBy(() -> factory.convertToNode(buffer.limit(5), "actual", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse actual value.");
+    }
+
+    @Test
+    void shouldSerializeDeeplyNestedDocument() {
+        int depth = 100_000;
+        String json = "[{\"a\":".repeat(depth) + "1" + "}]".repeat(depth);
+        assertThat(read(json, false)).hasToString(json);
+    }
+
+    @Test
+    void shouldParseDeeplyNestedArrays() {
+        int depth = 10_000;
+        Node node = read("[".repeat(depth) + "]".repeat(depth), false);
+        for (int i = 0; i < depth - 1; i++) {
+            node = node.element(0);
+        }
+        assertThat(node.size()).isZero();
+    }
+
+    @Test
+    void shouldParseLeniently() {
+        Node node = read("{a: 'b', /* comment */ 'c': [1, 2] // comment\n}", true);
+        assertThat(node).hasToString("{\"a\":\"b\",\"c\":[1,2]}");
+    }
+
+    @Test
+    void shouldNotAcceptLenientSyntaxInStrictMode() {
+        assertThatThrownBy(() -> read("{a: 1}", false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("['a']", false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("[1] // comment", false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldFailOnInvalidJson() {
+        assertThatThrownBy(() -> read("{\"a\": 1", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse actual value: '{\"a\": 1'");
+        assertThatThrownBy(() -> read("[1,]", false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("01", false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("[1] 2", false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("\"a\nb\"", false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Node read(String json, boolean lenient) {
+        return factory.convertToNode(json, "actual", lenient);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DiffAsyncTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCompareAsynchronously() {
+        DiffResult result = Diff.compareAsync("{\"a\": 1}", "{\"a\": 1}", Configuration.empty(), executor)
+                .join();
+
+        assertThat(result.isSimilar()).isTrue();
+        result.failIfDifferent();
+    }
+
+    @Test
+    void shouldReportDifferences() {
+        DiffResult result = Diff.compareAsync("{\"a\": 1}", "{\"a\": 2}", Configuration.empty(), executor)
+                .join();
+
+        assertThat(result.isSimilar()).isFalse();
+        assertThatThrownBy(result::failIfDifferent)
+                .hasMessage(
+                        """
+                        JSON documents are different:
+                        Different value found in node "a", expected: <1> but was: <2>.
+                        """);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyIfValueCanNotBeParsed() {
+        CompletableFuture<DiffResult> result =
+                Diff.compareAsync("{\"a\": 1}", "{invalid", Configuration.empty(), executor);
+
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldStopComparisonWhenCancelled() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Configuration configuration = Configuration.empty().withMatcher("blocking", new BaseMatcher<>() {
+            @Override
+            public boolean matches(Object item) {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    cancelled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {}
+        });
+        String expected = IntStream.range(0, 1000)
+                .mapToObj(i -> "\"${json-unit.matches:blocking}\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        String actual = IntStream.range(0, 1000).mapToObj(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+
+        CompletableFuture<DiffResult> result = Diff.compareAsync(expected, actual, configuration, executor);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        result.cancel(true);
+        cancelled.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(result).isCancelled();
+        assertThat(calls).hasValue(1);
+    }
+}
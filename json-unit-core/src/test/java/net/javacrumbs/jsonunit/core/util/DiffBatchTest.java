@@ -0,0 +1,140 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DiffBatchTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCompareAllPairs() {
+        DiffSummary summary = Diff.compareAll(pairs(10_000, 0), Configuration.empty(), executor);
+
+        assertThat(summary.getCompared()).isEqualTo(10_000);
+        assertThat(summary.getDifferent()).isZero();
+        assertThat(summary.isSimilar()).isTrue();
+        assertThat(summary.getReports()).isEmpty();
+        summary.failIfDifferent();
+    }
+
+    @Test
+    void shouldKeepReportsWithLowestIndexes() {
+        DiffSummary summary = DiffBatch.create(Configuration.empty())
+                .withExecutor(executor)
+                .withMaxReports(3)
+                .compareAll(pairs(10_000, 100));
+
+        assertThat(summary.getDifferent()).isEqualTo(100);
+        assertThat(summary.getReports()).extracting(DiffResult::getIndex).containsExactly(99L, 199L, 299L);
+        assertThatThrownBy(summary::failIfDifferent)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith(
+                        """
+                        100 of 10000 compared pairs are different.
+
+                        Pair 99:
+                        JSON documents are different:
+                        Different value found in node "id", expected: <99> but was: <-99>.
+                        """)
+                .hasMessageEndingWith("... and 97 more.\n");
+    }
+
+    @Test
+    void shouldNotifyAboutEachResult() {
+        ConcurrentLinkedQueue<DiffResult> results = new ConcurrentLinkedQueue<>();
+        DiffBatch.create(Configuration.empty())
+                .withExecutor(executor)
+                .withResultListener(results::add)
+                .compareAll(pairs(1000, 10));
+
+        assertThat(results).hasSize(1000);
+        assertThat(results.stream().mapToLong(DiffResult::getIndex).sorted().toArray())
+                .containsExactly(LongStream.range(0, 1000).toArray());
+        assertThat(results.stream().filter(result -> !result.isSimilar())).hasSize(100);
+    }
+
+    @Test
+    void shouldResolveJsonPathsForEachPair() {
+        Configuration configuration = Configuration.empty().whenIgnoringPaths("$..id");
+
+        DiffSummary summary = Diff.compareAll(pairs(1000, 10), configuration, executor);
+
+        assertThat(summary.getDifferent()).isZero();
+    }
+
+    @Test
+    void shouldRethrowException() {
+        Stream<Diff.Pair> pairs = Stream.concat(pairs(100, 0), Stream.of(new Diff.Pair("{}", "{invalid")));
+
+        assertThatThrownBy(() -> Diff.compareAll(pairs, Configuration.empty(), executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not parse actual value");
+    }
+
+    @Test
+    void shouldUseCommonPoolByDefault() {
+        DiffSummary summary = Diff.compareAll(
+                Stream.of(new Diff.Pair("{\"a\": 1}", "{\"a\": 1}"), new Diff.Pair("[1, 2]", "[2, 1]")),
+                Configuration.empty());
+
+        assertThat(summary.getCompared()).isEqualTo(2);
+        assertThat(summary.getReports())
+                .extracting(DiffResult::getDifferences)
+                .isEqualTo(
+                        List.of(
+                                """
+                        JSON documents are different:
+                        Different value found in node "[0]", expected: <1> but was: <2>.
+                        Different value found in node "[1]", expected: <2> but was: <1>.
+                        """));
+    }
+
+    @Test
+    void shouldNotAcceptNegativeMaxReports() {
+        assertThatThrownBy(() -> DiffBatch.create(Configuration.empty()).withMaxReports(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Every n-th pair is different, no pair is different if n is zero.
+     */
+    private static Stream<Diff.Pair> pairs(int count, int n) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            int actual = n > 0 && i % n == n - 1 ? -i : i;
+            return new Diff.Pair(
+                    "{\"id\": " + i + ", \"type\": \"event\"}", "{\"id\": " + actual + ", \"type\": \"event\"}");
+        });
+    }
+}
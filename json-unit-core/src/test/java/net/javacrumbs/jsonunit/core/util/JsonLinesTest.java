@@ -0,0 +1,172 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.core.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.javacrumbs.jsonunit.core.ConfigurationWhen.path;
+import static net.javacrumbs.jsonunit.core.ConfigurationWhen.then;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.Option;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonLinesTest {
+    private static final String EXPECTED = "{\"id\": \"${json-unit.any-number}\", \"type\": \"event\"}";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @TempDir
+    java.nio.file.Path directory;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldMatchAllLines() {
+        assertThatCode(() -> JsonLines.assertEachLine(lines(3, -1), EXPECTED, Configuration.empty()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldReportLineNumberInPath() {
+        assertThatThrownBy(() -> JsonLines.assertEachLine(lines(5, 3), EXPECTED, Configuration.empty()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage(
+                        """
+                        [line 4] JSON documents are different:
+                        Different value found in node "[3].type", expected: <"event"> but was: <"other">.
+                        """);
+    }
+
+    @Test
+    void shouldSkipBlankLinesButCountThem() {
+        String json = "{\"id\": 1, \"type\": \"event\"}\n\n{\"id\": 2, \"type\": \"other\"}\n";
+        assertThatThrownBy(() -> JsonLines.assertEachLine(stream(json), EXPECTED, Configuration.empty()))
+                .hasMessageStartingWith("[line 3]")
+                .hasMessageContaining("node \"[2].type\"");
+    }
+
+    @Test
+    void shouldApplyPathsRelativeToTheLine() {
+        assertThatCode(() -> JsonLines.assertEachLine(
+                        lines(5, 3), EXPECTED, Configuration.empty().whenIgnoringPaths("type")))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> JsonLines.assertEachLine(
+                        lines(5, 3), EXPECTED, Configuration.empty().whenIgnoringPaths("$.type")))
+                .doesNotThrowAnyException();
+        String json = "{\"tags\": [\"a\", \"b\"]}\n{\"tags\": [\"b\", \"a\"]}";
+        assertThatCode(() -> JsonLines.assertEachLine(
+                        stream(json),
+                        "{\"tags\": [\"a\", \"b\"]}",
+                        Configuration.empty().when(path("tags"), then(Option.IGNORING_ARRAY_ORDER))))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> JsonLines.assertEachLine(
+                        stream(json),
+                        "{\"tags\": [\"a\", \"b\"]}",
+                        Configuration.empty().when(path("[0].tags"), then(Option.IGNORING_ARRAY_ORDER))))
+                .hasMessageContaining("node \"[1].tags[0]\"");
+    }
+
+    @Test
+    void shouldNotifyListenerOnlyAboutReportedLine() {
+        StringBuilder differences = new StringBuilder();
+        Configuration configuration = Configuration.empty()
+                .withDifferenceListener((difference, context) ->
+                        differences.append(difference.getActualPath()).append(';'));
+        assertThatThrownBy(() -> JsonLines.assertEachLine(lines(5, 3), EXPECTED, configuration))
+                .isInstanceOf(AssertionError.class);
+        assertThat(differences.toString()).isEqualTo("[3].type;");
+    }
+
+    @Test
+    void shouldReportInvalidLine() {
+        assertThatThrownBy(() -> JsonLines.assertEachLine(
+                        stream("{\"id\": 1, \"type\": \"event\"}\n{invalid"), EXPECTED, Configuration.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not parse actual line 2 value");
+    }
+
+    @Test
+    void shouldReadFile() throws IOException {
+        java.nio.file.Path file = directory.resolve("events.jsonl");
+        Files.write(file, content(10, 7).getBytes(UTF_8));
+        assertThatThrownBy(() -> JsonLines.assertEachLine(file, EXPECTED, Configuration.empty()))
+                .hasMessageContaining("node \"[7].type\"");
+        assertThatThrownBy(() -> JsonLines.assertEachLine(file, EXPECTED, Configuration.empty(), executor))
+                .hasMessageContaining("node \"[7].type\"");
+    }
+
+    @Test
+    void shouldReportMissingFile() {
+        assertThatThrownBy(() ->
+                        JsonLines.assertEachLine(directory.resolve("missing.jsonl"), EXPECTED, Configuration.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not read actual value from");
+    }
+
+    @Test
+    void shouldMatchAllLinesInParallel() {
+        assertThatCode(() -> JsonLines.assertEachLine(lines(10_000, -1), EXPECTED, Configuration.empty(), executor))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldReportFirstDifferentLineInParallel() {
+        String json = IntStream.range(0, 10_000)
+                .mapToObj(i -> "{\"id\": " + i + ", \"type\": \"" + (i % 1000 == 999 ? "other" : "event") + "\"}")
+                .collect(Collectors.joining("\n"));
+        assertThatThrownBy(() -> JsonLines.assertEachLine(stream(json), EXPECTED, Configuration.empty(), executor))
+                .hasMessageContaining("node \"[999].type\"")
+                .hasMessageNotContaining("[1999]");
+    }
+
+    @Test
+    void shouldReportInvalidLineInParallel() {
+        String json = content(1000, -1) + "\n{invalid";
+        assertThatThrownBy(() -> JsonLines.assertEachLine(stream(json), EXPECTED, Configuration.empty(), executor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not parse actual line 1001 value");
+    }
+
+    private static InputStream lines(int count, int differentLine) {
+        return stream(content(count, differentLine));
+    }
+
+    private static String content(int count, int differentLine) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"id\": " + i + ", \"type\": \"" + (i == differentLine ? "other" : "event") + "\"}")
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
@@ -1,8 +1,18 @@
 package net.javacrumbs.jsonunit.jsonpath;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.javacrumbs.jsonunit.core.ConfigurationWhen.path;
+import static net.javacrumbs.jsonunit.core.ConfigurationWhen.then;
+import static net.javacrumbs.jsonunit.core.Option.IGNORING_ARRAY_ORDER;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.MAX_COMPILED_PATHS;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.compile;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.compiledPathCount;
 import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.fromBracketNotation;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.resolveJsonPaths;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import net.javacrumbs.jsonunit.core.Configuration;
 import org.junit.jupiter.api.Test;
 
 class InternalJsonPathUtilsTest {
@@ -13,4 +23,31 @@ class InternalJsonPathUtilsTest {
         assertThat(fromBracketNotation("$['tool'][2]['jsonpath']")).isEqualTo("$.tool[2].jsonpath");
         assertThat(fromBracketNotation("$[0][0]")).isEqualTo("$[0][0]");
     }
+
+    @Test
+    void shouldCompilePathOnlyOnce() {
+        assertThat(compile("$.items[*].price")).isSameAs(compile("$.items[*].price"));
+    }
+
+    @Test
+    void shouldLimitNumberOfCompiledPaths() {
+        for (int i = 0; i < MAX_COMPILED_PATHS + 10; i++) {
+            compile("$.a" + i);
+        }
+        assertThat(compiledPathCount()).isLessThanOrEqualTo(MAX_COMPILED_PATHS);
+    }
+
+    @Test
+    void shouldParseDocumentOnlyOnceForAllPaths() {
+        // the stream can be read only once
+        ByteArrayInputStream json =
+                new ByteArrayInputStream("{\"a\": [{\"b\": 1}, {\"b\": 2}], \"c\": 3}".getBytes(UTF_8));
+        Configuration configuration = resolveJsonPaths(
+                json,
+                Configuration.empty()
+                        .whenIgnoringPaths("$.a[*].b", "$.c", "d")
+                        .when(path("$.a[*].b"), then(IGNORING_ARRAY_ORDER)));
+        assertThat(configuration.getPathsToBeIgnored()).containsExactlyInAnyOrder("$.a[0].b", "$.a[1].b", "$.c", "d");
+        assertThat(configuration.getPathOptions().get(0).getPaths()).containsExactly("$.a[0].b", "$.a[1].b");
+    }
 }
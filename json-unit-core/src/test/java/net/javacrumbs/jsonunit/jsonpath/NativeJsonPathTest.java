@@ -0,0 +1,208 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.jsonpath;
+
+import static java.util.Objects.requireNonNull;
+import static net.javacrumbs.jsonunit.core.internal.JsonUtils.wrapDeserializedObject;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.configurationBuilder;
+import static net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils.readValue;
+import static net.javacrumbs.jsonunit.jsonpath.JsonPathAdapter.inPath;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.EvaluationListener;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import net.javacrumbs.jsonunit.core.internal.Diff;
+import net.javacrumbs.jsonunit.core.internal.JsonSource;
+import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.jsonpath.NativeJsonPath.Match;
+import net.javacrumbs.jsonunit.jsonpath.NativeJsonPath.UnsupportedPathException;
+import org.junit.jupiter.api.Test;
+
+class NativeJsonPathTest {
+    private static final List<String> DOCUMENTS = List.of(
+            """
+            {"store": {"book": [
+                {"category": "reference", "author": "Nigel Rees", "price": 8.95, "available": true},
+                {"category": "fiction", "author": "Evelyn Waugh", "price": 12.99, "isbn": null},
+                {"category": "fiction", "author": "Herman Melville", "price": 8.99, "isbn": "0-553-21311-3"},
+                1, "text", null, []
+              ],
+              "bicycle": {"color": "red", "price": 19.95, "a": {"price": 1}}},
+             "price": 10, "a.b": {"c": [1, [2, 3]]}, "empty": {}}
+            """,
+            "[1, {\"price\": 2, \"author\": \"x\"}, [{\"price\": 3}]]",
+            "{\"store\": 1, \"price\": null}",
+            "\"text\"");
+
+    private static final List<String> PATHS = List.of(
+            "$",
+            "$.store",
+            "$.store.book",
+            "$.store.book[0].author",
+            "$['store']['book'][1]['isbn']",
+            "$[\"store\"].bicycle.color",
+            "$.store.book[-1]",
+            "$.store.book[-10]",
+            "$.store.book[100].author",
+            "$.store.book[0].missing",
+            "$.store.missing.book",
+            "$.price.missing",
+            "$.store.book.missing",
+            "$[0]",
+            "$[1].price",
+            "$[-1][0].price",
+            "$.store.book[*].author",
+            "$.store.book[*].isbn",
+            "$.store.*",
+            "$.store.*.price",
+            "$.*",
+            "$[*]",
+            "$.store.bicycle.*",
+            "$.empty.*",
+            "$.price[*]",
+            "$.missing[*]",
+            "$.missing[*].a",
+            "$.store.book[*][0]",
+            "$..price",
+            "$..['price']",
+            "$..book[0].author",
+            "$..book[*].category",
+            "$..c[1][0]",
+            "$..missing",
+            "$.store..price",
+            "$.store.book[?(@.price > 9)].author",
+            "$.store.book[?(@.price <= 8.99)]",
+            "$.store.book[?(@.price == 8.95)].price",
+            "$.store.book[?(@.price != 8.95)].author",
+            "$.store.book[?(@.category == 'fiction')].author",
+            "$.store.book[?( @.category >= 'g' )].author",
+            "$.store.book[?(@.available == true)].author",
+            "$.store.book[?(@.isbn)].author",
+            "$.store.book[?(@.missing)]",
+            "$.store.bicycle[?(@.color == 'red')].price",
+            "$.store.bicycle[?(@.a.price < 2)].color",
+            "$..book[?(@.author == 'Nigel Rees')].price",
+            "$[?(@.price)]",
+            "$.a.b");
+
+    private static final Configuration CONFIGURATION = configurationBuilder().build();
+
+    private static final Configuration PATH_LIST_CONFIGURATION = configurationBuilder()
+            .options(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS)
+            .build();
+
+    @Test
+    void shouldEvaluateSameWayAsJayway() {
+        for (String document : DOCUMENTS) {
+            Node node = JsonUtils.convertToJson(document, "actual");
+            for (String path : PATHS) {
+                NativeJsonPath nativePath = requireNonNull(NativeJsonPath.compile(path), path);
+                String description = path + " in " + document;
+
+                List<Match> matches;
+                try {
+                    matches = nativePath.evaluate(node, false);
+                } catch (UnsupportedPathException e) {
+                    // evaluated by Jayway
+                    assertThat(path).as(description).contains("?(");
+                    continue;
+                }
+                List<String> expectedPaths = new ArrayList<>();
+                Object expected;
+                try {
+                    expected = readValue(
+                            CONFIGURATION.addEvaluationListeners(found -> {
+                                if (!found.path().startsWith("@")) {
+                                    expectedPaths.add(found.path());
+                                }
+                                return EvaluationListener.EvaluationContinuation.CONTINUE;
+                            }),
+                            node,
+                            path);
+                } catch (PathNotFoundException e) {
+                    assertThat(matches).as(description).isNull();
+                    continue;
+                }
+                assertThat(matches).as(description).isNotNull();
+                assertThat(requireNonNull(matches).stream().map(Match::path))
+                        .as(description)
+                        .containsExactlyElementsOf(expectedPaths);
+                List<Object> values = matches.stream()
+                        .map(Match::value)
+                        .map(Object.class::cast)
+                        .toList();
+                Object actual = nativePath.isDefinite() ? NodeJsonProvider.INSTANCE.unwrap(values.get(0)) : values;
+                Diff diff = Diff.create(
+                        wrapDeserializedObject(NodeJsonProvider.INSTANCE.unwrap(expected)),
+                        wrapDeserializedObject(actual),
+                        "actual",
+                        "",
+                        net.javacrumbs.jsonunit.core.Configuration.empty());
+                assertThat(diff.similar()).as(description + diff).isTrue();
+
+                List<String> pathList = readValue(PATH_LIST_CONFIGURATION, node, path);
+                try {
+                    assertThat(requireNonNull(nativePath.evaluate(node, true)).stream()
+                                    .map(Match::path))
+                            .as(description)
+                            .containsExactlyElementsOf(pathList);
+                } catch (UnsupportedPathException e) {
+                    assertThat(path).as(description).contains("?(");
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldNotCompileUnsupportedPaths() {
+        assertThat(NativeJsonPath.compile("store.book")).isNull();
+        assertThat(NativeJsonPath.compile("$.store.book.length()")).isNull();
+        assertThat(NativeJsonPath.compile("$.store.book[0,1]")).isNull();
+        assertThat(NativeJsonPath.compile("$.store.book[0:1]")).isNull();
+        assertThat(NativeJsonPath.compile("$.store['book','bicycle']")).isNull();
+        assertThat(NativeJsonPath.compile("$..*")).isNull();
+        assertThat(NativeJsonPath.compile("$..[0]")).isNull();
+        assertThat(NativeJsonPath.compile("$.store.book[?(@.price > 1 && @.price < 10)]"))
+                .isNull();
+        assertThat(NativeJsonPath.compile("$.store.book[?(@.author =~ /.*Rees/)]"))
+                .isNull();
+        assertThat(NativeJsonPath.compile("$.store.book[?('a' in @.tags)]")).isNull();
+        assertThat(NativeJsonPath.compile("$['a\\'b']")).isNull();
+        assertThat(NativeJsonPath.compile("$.store.")).isNull();
+    }
+
+    @Test
+    void shouldFallBackToJaywayWhenTypesDiffer() {
+        NativeJsonPath path = requireNonNull(NativeJsonPath.compile("$[?(@.a == 1)]"));
+        assertThatThrownBy(() -> path.evaluate(JsonUtils.convertToJson("[{\"a\": \"1\"}]", "actual"), false))
+                .isInstanceOf(UnsupportedPathException.class);
+
+        Node result = JsonUtils.convertToJson(inPath("[{\"a\": \"1\"}, {\"a\": 2}]", "$[?(@.a == 1)]"), "actual");
+        assertThat(result.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordMatchingPaths() {
+        Object result = inPath("{\"a\": [{\"b\": 1}, {\"b\": 2}]}", "$.a[*].b");
+        assertThat(((JsonSource) result).getMatchingPaths()).containsExactly("$.a[0].b", "$.a[1].b");
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2009-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.jsonunit.jsonpath;
+
+import static net.javacrumbs.jsonunit.jsonpath.JsonPathAdapter.inPath;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.TypeRef;
+import com.jayway.jsonpath.spi.mapper.MappingException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import org.junit.jupiter.api.Test;
+
+class NodeJsonProviderTest {
+    private static final String JSON =
+            "{\"items\": [{\"price\": 1.10, \"tags\": [\"a\"]}, {\"price\": 12345678901234567890.5, \"tags\": []}]}";
+
+    @Test
+    void shouldKeepNodeOfExtractedSubtree() throws IOException {
+        Object json = new ObjectMapper().readTree(JSON);
+        Node items = JsonUtils.convertToJson(inPath(json, "$.items[0]"), "actual");
+        assertThat(items.getClass().getSimpleName()).isEqualTo("Jackson2Node");
+    }
+
+    @Test
+    void shouldKeepNumericPrecision() {
+        Node prices = JsonUtils.convertToJson(inPath(JSON, "$.items[*].price"), "actual");
+        assertThat(prices.element(0).decimalValue()).isEqualTo(new BigDecimal("1.10"));
+        assertThat(prices.element(1).decimalValue()).isEqualTo(new BigDecimal("12345678901234567890.5"));
+    }
+
+    @Test
+    void shouldEvaluateFiltersAndFunctions() {
+        assertThat(JsonUtils.convertToJson(inPath(JSON, "$.items[?(@.price > 2)].price"), "actual")
+                        .size())
+                .isEqualTo(1);
+        assertThat(JsonUtils.convertToJson(inPath(JSON, "$.items[?('a' in @.tags)]"), "actual")
+                        .size())
+                .isEqualTo(1);
+        assertThat(JsonUtils.convertToJson(inPath(JSON, "$.items.length()"), "actual")
+                        .decimalValue())
+                .isEqualByComparingTo("2");
+        assertThat(JsonUtils.convertToJson(inPath(JSON, "$.items[0].tags.length()"), "actual")
+                        .decimalValue())
+                .isEqualByComparingTo("1");
+    }
+
+    @Test
+    void shouldScanDeep() {
+        Node prices = JsonUtils.convertToJson(inPath(JSON, "$..price"), "actual");
+        assertThat(prices.size()).isEqualTo(2);
+        assertThat(prices.element(0).decimalValue()).isEqualTo(new BigDecimal("1.10"));
+    }
+
+    @Test
+    void shouldNotFindElementOutOfBounds() {
+        assertThat(JsonUtils.convertToJson(inPath(JSON, "$.items[5]"), "actual").isMissingNode())
+                .isTrue();
+        assertThat(InternalJsonPathUtils.resolveJsonPaths(
+                                JSON, Configuration.empty().whenIgnoringPaths("$.items[5]"))
+                        .getPathsToBeIgnored())
+                .isEmpty();
+    }
+
+    @Test
+    void shouldMapToTypeRef() {
+        com.jayway.jsonpath.Configuration configuration = com.jayway.jsonpath.Configuration.builder()
+                .jsonProvider(NodeJsonProvider.INSTANCE)
+                .mappingProvider(NodeJsonProvider.MAPPING_PROVIDER)
+                .build();
+        Node items = JsonUtils.convertToJson(JSON, "actual").get("items");
+
+        List<Object> list = NodeJsonProvider.MAPPING_PROVIDER.map(items, new TypeRef<>() {}, configuration);
+        assertThat(list).hasSize(2);
+        Map<String, Object> item =
+                NodeJsonProvider.MAPPING_PROVIDER.map(items.element(0), new TypeRef<>() {}, configuration);
+        assertThat(item).containsKeys("price", "tags");
+        assertThatThrownBy(() -> NodeJsonProvider.MAPPING_PROVIDER.map(
+                        items, new TypeRef<Map<String, Object>>() {}, configuration))
+                .isInstanceOf(MappingException.class);
+    }
+}
@@ -6,6 +6,9 @@ import io.kotest.matchers.MatcherResult
 import io.kotest.matchers.and
 import io.kotest.matchers.should
 import java.math.BigDecimal
+import java.util.concurrent.Executor
+import java.util.concurrent.ForkJoinPool
+import kotlinx.coroutines.future.await
 import net.javacrumbs.jsonunit.core.Configuration
 import net.javacrumbs.jsonunit.core.Configuration.empty as default
 import net.javacrumbs.jsonunit.core.internal.Diff
@@ -36,6 +39,30 @@ private fun match(actual: Any?, configuration: Configuration, expected: Any?): M
     return MatcherResult(diff.similar(), { diff.differences() }, { "Expected values to not match\n" })
 }
 
+/**
+ * Suspending variant of [equalJson]. The comparison runs on [executor], so the calling thread is not blocked, and it is
+ * stopped when the coroutine is cancelled.
+ *
+ *  ```kotlin
+ *  response.body shouldEqualJsonAsync """{"test":1}"""
+ *  ```
+ */
+suspend fun Any?.shouldEqualJsonAsync(
+    expected: Any?,
+    configuration: Configuration = default(),
+    executor: Executor = ForkJoinPool.commonPool(),
+) {
+    val originalJson = if (this is JsonSourceWrapper) this.originalJson else this
+    val resolvedJson = this.resolveJson()
+    val config = InternalJsonPathUtils.resolveJsonPaths(originalJson, configuration)
+    val result = Diff.compareAsync(expected, resolvedJson, config, executor).await()
+    this should
+        Matcher { MatcherResult(result.isSimilar, { result.differences }, { "Expected values to not match\n" }) }
+}
+
+/** Suspending variant of [equalJson] with default configuration, see [shouldEqualJsonAsync]. */
+suspend infix fun Any?.shouldEqualJsonAsync(expected: Any?) = shouldEqualJsonAsync(expected, default())
+
 private fun Any?.resolveJson(): Any? = if (this is JsonSourceWrapper) this.jsonSource else this
 
 /** Helper method to create [Configuration] object. */
@@ -17,6 +17,7 @@ import io.kotest.matchers.throwable.shouldHaveMessage
 import io.kotest.matchers.types.shouldBeInstanceOf
 import java.math.BigDecimal.valueOf
 import kotlin.text.RegexOption.DOT_MATCHES_ALL
+import kotlinx.coroutines.runBlocking
 import net.javacrumbs.jsonunit.core.ConfigurationWhen.paths
 import net.javacrumbs.jsonunit.core.ConfigurationWhen.then
 import net.javacrumbs.jsonunit.core.Option.IGNORING_ARRAY_ORDER
@@ -33,6 +34,7 @@ import net.javacrumbs.jsonunit.kotest.shouldBeJsonBoolean
 import net.javacrumbs.jsonunit.kotest.shouldBeJsonNumber
 import net.javacrumbs.jsonunit.kotest.shouldBeJsonObject
 import net.javacrumbs.jsonunit.kotest.shouldBeJsonString
+import net.javacrumbs.jsonunit.kotest.shouldEqualJsonAsync
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.opentest4j.AssertionFailedError
@@ -248,4 +250,21 @@ The following elements failed:
             }
             .should(haveMessage(Regex("The following 2 assertions failed:.*", DOT_MATCHES_ALL)))
     }
+
+    @Test
+    fun `Should assert JSON asynchronously`() = runBlocking {
+        """{"test":1.01}""".shouldEqualJsonAsync("""{"test":1}""", configuration { withTolerance(0.1) })
+        """{"test": {"nested": 1}}""" inPath "test" shouldEqualJsonAsync """{"nested": 1}"""
+    }
+
+    @Test
+    fun `Should fail asynchronously`() {
+        assertThrows<AssertionError> {
+                runBlocking { """{"test": {"nested": 1}}""" inPath "test" shouldEqualJsonAsync """{"nested": 2}""" }
+            }
+            .shouldHaveMessage(
+                """JSON documents are different:
+Different value found in node "test.nested", expected: <2> but was: <1>."""
+            )
+    }
 }
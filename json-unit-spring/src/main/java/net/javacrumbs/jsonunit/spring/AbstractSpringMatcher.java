@@ -15,15 +15,26 @@
  */
 package net.javacrumbs.jsonunit.spring;
 
+import static net.javacrumbs.jsonunit.core.internal.matchers.InternalMatcher.ACTUAL;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.internal.JsonUtils;
+import net.javacrumbs.jsonunit.core.internal.ParsedDocument;
 import net.javacrumbs.jsonunit.core.internal.Path;
 import net.javacrumbs.jsonunit.core.internal.matchers.InternalMatcher;
 import net.javacrumbs.jsonunit.jsonpath.InternalJsonPathUtils;
 import org.jspecify.annotations.Nullable;
 
 abstract class AbstractSpringMatcher {
+    // Bodies parsed by previous matchers, keyed by the result or request they belong to. The keys do not override
+    // equals, so the map works as a weak identity map. Several matchers applied to one response parse it only once.
+    private static final Map<Object, ParsedDocument> parsedBodies = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final Configuration configuration;
     private final Consumer<InternalMatcher> matcher;
     private final JsonTransformer jsonTransformer;
@@ -35,6 +46,22 @@ abstract class AbstractSpringMatcher {
         this.jsonTransformer = jsonTransformer;
     }
 
+    /**
+     * @param exchange result or request the body belongs to, the parsed body is cached for it
+     * @param body body of the exchange, read only if not parsed yet
+     */
+    void doMatch(Object exchange, Supplier<@Nullable Object> body) {
+        ParsedDocument document = parsedBodies.get(exchange);
+        if (document == null) {
+            // parsed outside of the lock, the map is shared by all the threads. If two threads parse the same body
+            // at once, the first stored document wins.
+            ParsedDocument parsed = ParsedDocument.of(body.get(), ACTUAL);
+            ParsedDocument previous = parsedBodies.putIfAbsent(exchange, parsed);
+            document = previous != null ? previous : parsed;
+        }
+        doMatch(document);
+    }
+
     void doMatch(@Nullable Object actual) {
         Configuration config = InternalJsonPathUtils.resolveJsonPaths(actual, configuration);
         Object json = jsonTransformer.transform(actual);
@@ -13,4 +13,18 @@ class CharsetUtils {
             return StandardCharsets.UTF_8;
         }
     }
+
+    /**
+     * UTF-8 encoded body is passed to JsonUnit as bytes so that it does not have to be decoded to String first.
+     * Bodies in other encodings and empty bodies are converted to String.
+     */
+    static @Nullable Object getContent(byte @Nullable [] body, Charset charset) {
+        if (body == null) {
+            return null;
+        } else if (body.length > 0 && StandardCharsets.UTF_8.equals(charset)) {
+            return body;
+        } else {
+            return new String(body, charset);
+        }
+    }
 }
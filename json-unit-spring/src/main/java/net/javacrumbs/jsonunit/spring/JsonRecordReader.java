@@ -0,0 +1,160 @@
+package net.javacrumbs.jsonunit.spring;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * Splits a streamed body to JSON records. The body is read line by line as the buffers arrive, only the line
+ * being read is kept in memory. Lines are split on '\n' bytes, which never appear inside multibyte UTF-8
+ * characters, so the records are passed on as UTF-8 encoded bytes without decoding.
+ */
+abstract class JsonRecordReader {
+    private final Consumer<byte[]> recordConsumer;
+    private byte[] line = new byte[256];
+    private int length = 0;
+
+    JsonRecordReader(Consumer<byte[]> recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    /**
+     * Each line is one record, blank lines are skipped.
+     */
+    static JsonRecordReader ndJson(Consumer<byte[]> recordConsumer) {
+        return new NdJsonReader(recordConsumer);
+    }
+
+    /**
+     * Data of each event is one record, events without data and comments are skipped.
+     */
+    static JsonRecordReader serverSentEvents(Consumer<byte[]> recordConsumer) {
+        return new ServerSentEventReader(recordConsumer);
+    }
+
+    /**
+     * Reads the buffer, complete records are passed to the consumer.
+     */
+    void read(DataBuffer buffer) {
+        while (buffer.readableByteCount() > 0) {
+            int start = buffer.readPosition();
+            int end = buffer.indexOf(b -> b == '\n', start);
+            int count = end < 0 ? buffer.readableByteCount() : end - start;
+            ensureCapacity(length + count);
+            buffer.read(line, length, count);
+            length += count;
+            if (end >= 0) {
+                buffer.readPosition(end + 1);
+                endLine();
+            }
+        }
+    }
+
+    /**
+     * Called at the end of the body, the last record does not have to be terminated.
+     */
+    void finish() {
+        if (length > 0) {
+            endLine();
+        }
+        endRecord();
+    }
+
+    private void endLine() {
+        int lineLength = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+        length = 0;
+        line(line, lineLength);
+    }
+
+    /**
+     * @param line the array is reused, only first {@code length} bytes belong to the line
+     */
+    abstract void line(byte[] line, int length);
+
+    void endRecord() {}
+
+    void record(byte[] record) {
+        recordConsumer.accept(record);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > line.length) {
+            line = Arrays.copyOf(line, Math.max(capacity, line.length * 2));
+        }
+    }
+
+    private static final class NdJsonReader extends JsonRecordReader {
+        private NdJsonReader(Consumer<byte[]> recordConsumer) {
+            super(recordConsumer);
+        }
+
+        @Override
+        void line(byte[] line, int length) {
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(line[i])) {
+                    record(Arrays.copyOf(line, length));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Only "data" fields are used, multiple data lines of one event are joined by '\n'.
+     */
+    private static final class ServerSentEventReader extends JsonRecordReader {
+        private static final byte[] DATA = {'d', 'a', 't', 'a'};
+
+        private byte[] data = new byte[256];
+        private int dataLength = -1;
+
+        private ServerSentEventReader(Consumer<byte[]> recordConsumer) {
+            super(recordConsumer);
+        }
+
+        @Override
+        void line(byte[] line, int length) {
+            if (length == 0) {
+                endRecord();
+            } else if (isDataField(line, length)) {
+                int start = Math.min(DATA.length + 1, length);
+                if (start < length && line[start] == ' ') {
+                    start++;
+                }
+                appendData(line, start, length - start);
+            }
+            // comments and other fields are ignored
+        }
+
+        /**
+         * "data" followed by a colon or the end of the line
+         */
+        private static boolean isDataField(byte[] line, int length) {
+            return length >= DATA.length
+                    && (length == DATA.length || line[DATA.length] == ':')
+                    && Arrays.equals(line, 0, DATA.length, DATA, 0, DATA.length);
+        }
+
+        private void appendData(byte[] line, int start, int count) {
+            int separator = dataLength < 0 ? 0 : 1;
+            int newLength = Math.max(dataLength, 0) + separator + count;
+            if (newLength > data.length) {
+                data = Arrays.copyOf(data, Math.max(newLength, data.length * 2));
+            }
+            if (separator > 0) {
+                data[dataLength] = '\n';
+            }
+            System.arraycopy(line, start, data, newLength - count, count);
+            dataLength = newLength;
+        }
+
+        @Override
+        void endRecord() {
+            int recordLength = dataLength;
+            dataLength = -1;
+            if (recordLength > 0) {
+                record(Arrays.copyOf(data, recordLength));
+            }
+        }
+    }
+}
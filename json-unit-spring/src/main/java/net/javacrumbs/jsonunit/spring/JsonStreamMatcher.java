@@ -0,0 +1,139 @@
+package net.javacrumbs.jsonunit.spring;
+
+import static net.javacrumbs.jsonunit.spring.JsonTransformer.identity;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import net.javacrumbs.jsonunit.core.Configuration;
+import net.javacrumbs.jsonunit.core.internal.CompiledConfiguration;
+import net.javacrumbs.jsonunit.core.internal.Node;
+import net.javacrumbs.jsonunit.core.internal.ParsedDocument;
+import net.javacrumbs.jsonunit.core.internal.matchers.InternalMatcher;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+/**
+ * Matcher for streamed bodies, newline delimited JSON or server-sent events. Every record of the stream is
+ * parsed and matched separately as it arrives, so the body is never buffered as a whole. The matching stops
+ * on the first record that does not match, the error contains its index.
+ * <p>
+ * Sample usage:
+ * <p>
+ * <code>
+ * Flux&lt;DataBuffer&gt; body = client.get().uri(path).exchange().returnResult(DataBuffer.class).getResponseBody();
+ * ndJson().isEqualTo("{\"id\": \"${json-unit.any-number}\"}").accept(body);
+ * </code>
+ */
+public class JsonStreamMatcher extends AbstractSpringMatchers<JsonStreamMatcher, Consumer<Flux<DataBuffer>>> {
+    private final Function<Consumer<byte[]>, JsonRecordReader> readerFactory;
+
+    private JsonStreamMatcher(
+            Configuration configuration,
+            JsonTransformer jsonTransformer,
+            Function<Consumer<byte[]>, JsonRecordReader> readerFactory) {
+        super(configuration, jsonTransformer);
+        this.readerFactory = readerFactory;
+    }
+
+    /**
+     * Matches each line of application/x-ndjson or application/jsonl body. Blank lines are skipped.
+     */
+    public static JsonStreamMatcher ndJson() {
+        return new JsonStreamMatcher(Configuration.empty(), identity(), JsonRecordReader::ndJson);
+    }
+
+    /**
+     * Matches data of each event of text/event-stream body. Comments, other fields and events without data
+     * are skipped.
+     */
+    public static JsonStreamMatcher serverSentEvents() {
+        return new JsonStreamMatcher(Configuration.empty(), identity(), JsonRecordReader::serverSentEvents);
+    }
+
+    /**
+     * The expected value is converted to JSON only once, not for every record. Readers and streams
+     * can be read only once.
+     */
+    @Override
+    public Consumer<Flux<DataBuffer>> isEqualTo(@Nullable Object expected) {
+        return super.isEqualTo(convertExpected(expected));
+    }
+
+    /**
+     * The expected value is converted to JSON only once, not for every record.
+     */
+    @Override
+    public Consumer<Flux<DataBuffer>> isNotEqualTo(@Nullable Object expected) {
+        return super.isNotEqualTo(convertExpected(expected));
+    }
+
+    private Node convertExpected(@Nullable Object expected) {
+        return CompiledConfiguration.compile(configuration).convertExpected(expected);
+    }
+
+    @Override
+    Consumer<Flux<DataBuffer>> matcher(Consumer<InternalMatcher> matcher) {
+        return new JsonUnitStreamMatcher(configuration, matcher, jsonTransformer, readerFactory);
+    }
+
+    @Override
+    JsonStreamMatcher matchers(Configuration configuration, JsonTransformer jsonTransformer) {
+        return new JsonStreamMatcher(configuration, jsonTransformer, readerFactory);
+    }
+
+    private static class JsonUnitStreamMatcher extends AbstractSpringMatcher implements Consumer<Flux<DataBuffer>> {
+        private final Function<Consumer<byte[]>, JsonRecordReader> readerFactory;
+
+        private JsonUnitStreamMatcher(
+                Configuration configuration,
+                Consumer<InternalMatcher> matcher,
+                JsonTransformer jsonTransformer,
+                Function<Consumer<byte[]>, JsonRecordReader> readerFactory) {
+            super(configuration, matcher, jsonTransformer);
+            this.readerFactory = readerFactory;
+        }
+
+        @Override
+        public void accept(Flux<DataBuffer> body) {
+            JsonRecordReader reader = readerFactory.apply(new Consumer<>() {
+                private long index = 0;
+
+                @Override
+                public void accept(byte[] record) {
+                    matchRecord(record, index++);
+                }
+            });
+            try {
+                body.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                        .doOnNext(buffer -> {
+                            try {
+                                reader.read(buffer);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .then()
+                        .block();
+            } catch (RuntimeException e) {
+                // Reactor wraps errors thrown by the callbacks
+                if (Exceptions.unwrap(e) instanceof AssertionError assertionError) {
+                    throw assertionError;
+                }
+                throw e;
+            }
+            reader.finish();
+        }
+
+        private void matchRecord(byte[] record, long index) {
+            ParsedDocument document = ParsedDocument.of(record, "record " + index);
+            try {
+                doMatch(document);
+            } catch (AssertionError e) {
+                throw new AssertionError("Record " + index + " does not match. " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -66,8 +66,7 @@ public class JsonUnitRequestMatchers extends AbstractSpringMatchers<JsonUnitRequ
 
         @Override
         public void match(ClientHttpRequest request) throws AssertionError {
-            Object actual = ((MockClientHttpRequest) request).getBodyAsString();
-            doMatch(actual);
+            doMatch(request, ((MockClientHttpRequest) request)::getBodyAsString);
         }
     }
 }
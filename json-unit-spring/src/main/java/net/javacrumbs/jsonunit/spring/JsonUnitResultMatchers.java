@@ -15,13 +15,14 @@
  */
 package net.javacrumbs.jsonunit.spring;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static net.javacrumbs.jsonunit.spring.JsonTransformer.identity;
 
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
+import java.nio.charset.Charset;
 import java.util.function.Consumer;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.internal.matchers.InternalMatcher;
+import org.jspecify.annotations.Nullable;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultMatcher;
@@ -65,12 +66,12 @@ public class JsonUnitResultMatchers extends AbstractSpringMatchers<JsonUnitResul
 
         @Override
         public void match(MvcResult result) throws Exception {
-            String actual = getContentAsString(result.getResponse());
-            doMatch(actual);
+            doMatch(result, () -> getContent(result.getResponse()));
         }
+    }
 
-        private String getContentAsString(MockHttpServletResponse response) throws UnsupportedEncodingException {
-            return response.getContentAsString(StandardCharsets.UTF_8);
-        }
+    static @Nullable Object getContent(MockHttpServletResponse response) {
+        Charset charset = response.isCharset() ? Charset.forName(response.getCharacterEncoding()) : UTF_8;
+        return CharsetUtils.getContent(response.getContentAsByteArray(), charset);
     }
 }
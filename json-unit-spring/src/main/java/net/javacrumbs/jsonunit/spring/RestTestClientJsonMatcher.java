@@ -1,7 +1,7 @@
 package net.javacrumbs.jsonunit.spring;
 
 import static net.javacrumbs.jsonunit.spring.JsonTransformer.identity;
-import static net.javacrumbs.jsonunit.spring.RestTestClientUtils.getContentAsString;
+import static net.javacrumbs.jsonunit.spring.RestTestClientUtils.getContent;
 
 import java.util.function.Consumer;
 import net.javacrumbs.jsonunit.core.Configuration;
@@ -47,7 +47,7 @@ public class RestTestClientJsonMatcher
 
         @Override
         public void accept(EntityExchangeResult<byte[]> result) {
-            doMatch(getContentAsString(result));
+            doMatch(result, () -> getContent(result));
         }
     }
 }
@@ -5,14 +5,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.test.web.reactive.server.EntityExchangeResult;
 
 class WebTestClientUtils {
-    static @Nullable String getContentAsString(EntityExchangeResult<byte[]> result) {
-        Charset charset = getCharset(result);
-        var responseBody = result.getResponseBody();
-        if (responseBody != null) {
-            return new String(responseBody, charset);
-        } else {
-            return null;
-        }
+    static @Nullable Object getContent(EntityExchangeResult<byte[]> result) {
+        return CharsetUtils.getContent(result.getResponseBody(), getCharset(result));
     }
 
     private static Charset getCharset(EntityExchangeResult<byte[]> result) {
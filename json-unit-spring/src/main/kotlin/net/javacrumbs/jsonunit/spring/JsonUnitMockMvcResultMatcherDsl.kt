@@ -1,6 +1,5 @@
 package net.javacrumbs.jsonunit.spring
 
-import java.nio.charset.StandardCharsets
 import net.javacrumbs.jsonunit.assertj.JsonAssert
 import net.javacrumbs.jsonunit.assertj.JsonAssertions
 import org.springframework.test.web.servlet.MockMvcResultMatchersDsl
@@ -17,6 +16,6 @@ import org.springframework.test.web.servlet.MockMvcResultMatchersDsl
  */
 fun MockMvcResultMatchersDsl.jsonContent(matcher: JsonAssert.ConfigurableJsonAssert.() -> Unit) {
     match { result ->
-        matcher(JsonAssertions.assertThatJson(result.response.getContentAsString(StandardCharsets.UTF_8)))
+        matcher(JsonAssertions.assertThatJson(JsonUnitResultMatchers.getContent(result.response)))
     }
 }
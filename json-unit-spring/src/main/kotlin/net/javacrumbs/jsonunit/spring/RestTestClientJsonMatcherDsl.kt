@@ -2,7 +2,7 @@ package net.javacrumbs.jsonunit.spring
 
 import net.javacrumbs.jsonunit.assertj.JsonAssert
 import net.javacrumbs.jsonunit.assertj.JsonAssertions
-import net.javacrumbs.jsonunit.spring.RestTestClientUtils.getContentAsString
+import net.javacrumbs.jsonunit.spring.RestTestClientUtils.getContent
 import org.springframework.test.web.servlet.client.RestTestClient
 
 /**
@@ -16,5 +16,5 @@ import org.springframework.test.web.servlet.client.RestTestClient
 fun RestTestClient.BodyContentSpec.jsonContent(
     matcher: JsonAssert.ConfigurableJsonAssert.() -> Unit
 ): RestTestClient.BodyContentSpec = consumeWith { result ->
-    matcher(JsonAssertions.assertThatJson(getContentAsString(result)))
+    matcher(JsonAssertions.assertThatJson(getContent(result)))
 }
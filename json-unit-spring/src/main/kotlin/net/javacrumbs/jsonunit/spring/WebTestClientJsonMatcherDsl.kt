@@ -2,7 +2,7 @@ package net.javacrumbs.jsonunit.spring
 
 import net.javacrumbs.jsonunit.assertj.JsonAssert
 import net.javacrumbs.jsonunit.assertj.JsonAssertions
-import net.javacrumbs.jsonunit.spring.WebTestClientUtils.getContentAsString
+import net.javacrumbs.jsonunit.spring.WebTestClientUtils.getContent
 import org.springframework.test.web.reactive.server.WebTestClient
 
 /**
@@ -16,5 +16,5 @@ import org.springframework.test.web.reactive.server.WebTestClient
 fun WebTestClient.BodyContentSpec.jsonContent(
     matcher: JsonAssert.ConfigurableJsonAssert.() -> Unit
 ): WebTestClient.BodyContentSpec = consumeWith { result ->
-    matcher(JsonAssertions.assertThatJson(getContentAsString(result)))
+    matcher(JsonAssertions.assertThatJson(getContent(result)))
 }
@@ -0,0 +1,104 @@
+package net.javacrumbs.jsonunit.spring;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.javacrumbs.jsonunit.spring.JsonStreamMatcher.ndJson;
+import static net.javacrumbs.jsonunit.spring.JsonStreamMatcher.serverSentEvents;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class JsonStreamMatcherTest {
+    private static final String NDJSON =
+            """
+            {"id": 0, "name": "€ 0"}
+            {"id": 1, "name": "€ 1"}\r
+
+            {"id": 2, "name": "€ 2"}""";
+
+    @Test
+    void shouldMatchEachLine() {
+        for (int chunkSize = 1; chunkSize < 20; chunkSize++) {
+            ndJson().isEqualTo("{\"id\": \"${json-unit.any-number}\", \"name\": \"${json-unit.regex}€ \\\\d\"}")
+                    .accept(body(NDJSON, chunkSize));
+        }
+    }
+
+    @Test
+    void shouldReadExpectedReaderOnlyOnce() {
+        ndJson().isEqualTo(new StringReader("{\"a\": 1}")).accept(body("{\"a\": 1}\n{\"a\": 1}\n", 100));
+        assertThatThrownBy(() -> ndJson().isNotEqualTo(new StringReader("{\"a\": 1}"))
+                        .accept(body("{\"a\": 2}\n{\"a\": 1}\n", 100)))
+                .hasMessageStartingWith("Record 1 does not match.");
+    }
+
+    @Test
+    void shouldMatchNodeOfEachLine() {
+        ndJson().node("name").isString().accept(body(NDJSON, 7));
+    }
+
+    @Test
+    void shouldFailOnFirstDifferentRecord() {
+        AtomicInteger emitted = new AtomicInteger();
+        Flux<DataBuffer> body = Flux.range(0, 1000)
+                .doOnNext(i -> emitted.incrementAndGet())
+                .map(i -> buffer("{\"id\": " + (i == 3 ? "\"x\"" : i) + "}\n"));
+
+        assertThatThrownBy(() ->
+                        ndJson().node("id").isEqualTo("${json-unit.any-number}").accept(body))
+                .hasMessageContaining("Record 3 does not match.")
+                .hasMessageContaining("expected: <a number> but was: <\"x\">");
+        assertThat(emitted.get()).isLessThan(1000);
+    }
+
+    @Test
+    void shouldFailOnInvalidRecord() {
+        assertThatThrownBy(() -> ndJson().isObject().accept(body("{}\n{\"a\":\n{}", 100)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not parse record 1 value");
+    }
+
+    @Test
+    void shouldMatchDataOfServerSentEvents() {
+        String events =
+                """
+                : comment
+
+                event: message
+                id: 1
+                data: {"id": 1,
+                data:  "tags": ["€"]}
+
+                retry: 1000
+
+                data:{"id": 2, "tags": []}
+                """;
+        for (int chunkSize = 1; chunkSize < 20; chunkSize++) {
+            serverSentEvents().node("tags").isArray().accept(body(events, chunkSize));
+        }
+        assertThatThrownBy(() -> serverSentEvents().node("id").isEqualTo(1).accept(body(events, 10)))
+                .hasMessageStartingWith("Record 1 does not match.");
+    }
+
+    private static Flux<DataBuffer> body(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static DataBuffer buffer(String value) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(value.getBytes(UTF_8));
+    }
+}
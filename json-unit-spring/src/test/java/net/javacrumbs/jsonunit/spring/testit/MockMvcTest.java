@@ -29,7 +29,9 @@ import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -43,10 +45,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
@@ -135,6 +139,22 @@ class MockMvcTest {
         exec().andExpect(json().isEqualTo(CORRECT_JSON));
     }
 
+    @Test
+    void shouldReadResponseOnlyOnceForAllMatchers() throws Exception {
+        MockHttpServletResponse response = exec().andReturn().getResponse();
+        MvcResult result = mock(MvcResult.class);
+        when(result.getResponse()).thenReturn(response);
+
+        json().isEqualTo(CORRECT_JSON).match(result);
+        json().node("result.string").isEqualTo("stringValue").match(result);
+        json().inPath("$.result.array").isArray().match(result);
+        json().when(paths("$.result.array"), then(IGNORING_ARRAY_ORDER))
+                .isEqualTo(CORRECT_JSON)
+                .match(result);
+
+        verify(result, times(1)).getResponse();
+    }
+
     @Test
     void isEqualToShouldFailIfDoesNotEqual() {
         DifferenceListener listener = mock(DifferenceListener.class);
@@ -39,6 +39,8 @@ import org.jspecify.annotations.Nullable;
  * <li>Numbers, booleans and any other type parseable by Jackson's ObjectMapper.convertValue</li>
  * <li>String is parsed as JSON. For expected values the string is quoted if it contains obviously invalid JSON.</li>
  * <li>{@link java.io.Reader} similarly to String</li>
+ * <li>UTF-8 encoded byte[], {@link java.nio.ByteBuffer} and {@link java.io.InputStream}</li>
+ * <li>{@link java.nio.file.Path} the file is memory mapped and parsed</li>
  * <li>null as null Node</li>
  * </ol>
  *
@@ -57,6 +57,7 @@ import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -263,6 +264,33 @@ public abstract class AbstractAssertJTest {
         assertThatJson("{\"a\":1, \"b\": 2}").isObject().containsValue(valueOf(2));
     }
 
+    @Test
+    void largeObjectShouldContainValues() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 5000; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("\"key")
+                    .append(i)
+                    .append("\": ")
+                    .append(i);
+        }
+        json.append(", \"text\": \"value\", \"object\": {\"c\": 3}}");
+        Object[] values = new Object[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueOf(4999 - i);
+        }
+        assertThatJson(json.toString())
+                .isObject()
+                .containsValues(values)
+                .containsValue(json("\"value\""))
+                .containsValue(json("{\"c\": 3}"))
+                .containsValue(json("\"${json-unit.any-string}\""))
+                .containsEntry("text", json("\"value\""))
+                .doesNotContainValue(valueOf(5000))
+                .doesNotContainValue(json("\"3\""))
+                .doesNotContainValue(json("{\"c\": 4}"));
+    }
+
     @Test
     void objectShouldContainComplexValue() {
         assertThatJson("{\"a\":1, \"b\": {\"c\" :3}}")
@@ -715,6 +743,32 @@ public abstract class AbstractAssertJTest {
                 .containsExactlyInAnyOrder(json("{\"c\": 1}"), json("{\"b\": 1}"), json("{\"d\": 1}"));
     }
 
+    @Test
+    void largeArrayIgnoringOrderComparison() {
+        StringBuilder actual = new StringBuilder("[");
+        Object[] expected = new Object[500];
+        for (int i = 0; i < expected.length; i++) {
+            actual.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"tags\": [\"a\"]}");
+            expected[expected.length - 1 - i] = json("{\"tags\": [\"a\"], \"id\": " + i + "}");
+        }
+        assertThatJson(actual.append("]").toString()).isArray().containsExactlyInAnyOrder(expected);
+    }
+
+    @Test
+    void arrayContainsWithPlaceholders() {
+        assertThatJson("[{\"id\": 1, \"a\": 1.0}, {\"id\": 2, \"a\": \"x\"}]")
+                .isArray()
+                .contains(json("{\"id\": 1, \"a\": \"${json-unit.any-number}\"}"))
+                .doesNotContain(json("{\"id\": 1, \"a\": \"${json-unit.any-string}\"}"));
+    }
+
+    @Test
+    void arrayIgnoringOrderComparisonShouldRespectTolerance() {
+        assertThatThrownBy(() -> assertThatJson("[1.01, 2]").isArray().containsExactlyInAnyOrder(json("2"), json("1")))
+                .isInstanceOf(AssertionError.class);
+        assertThatJson("[1.01, 2]").withTolerance(0.1).isArray().containsExactlyInAnyOrder(json("2"), json("1"));
+    }
+
     @Test
     void arraySimpleIgnoringOrderComparison() {
         assertThatJson("{\"a\":[{\"b\": 1}, {\"c\": 1}, {\"d\": 1}]}")
@@ -1536,6 +1590,35 @@ public abstract class AbstractAssertJTest {
                 .isEqualTo("[{\"a\":1, \"b\":0},{\"a\":1, \"b\":0}]");
     }
 
+    @Test
+    void shouldParseReaderOnlyOnceInAssertionChain() {
+        // the reader can be read only once
+        ConfigurableJsonAssert assertion = assertThatJson(new StringReader("{\"a\":{\"b\":[1, 2], \"c\":1}, \"d\":2}"))
+                .whenIgnoringPaths("$.a.c")
+                .when(paths("$.a.b"), then(IGNORING_ARRAY_ORDER));
+        assertion.isObject().containsEntry("d", 2);
+        assertion.node("a.b").isArray().containsExactly(1, 2);
+        assertion.inPath("$.a").isEqualTo("{\"b\":[2, 1], \"c\":3}");
+        assertion.inPath("$.a.b[*]").isArray().hasSize(2);
+        assertion.node("d").isPresent().isEqualTo(2);
+    }
+
+    @Test
+    void pathShouldBeIgnoredForWildcards() {
+        assertThatJson("{\"a\":{\"id\":1, \"b\":[{\"timestamp\":2}]}, \"timestamp\":3}")
+                .whenIgnoringPaths("**.timestamp", "*.id")
+                .isEqualTo("{\"a\":{\"id\":0, \"b\":[{\"timestamp\":0}]}, \"timestamp\":0}");
+    }
+
+    @Test
+    void deepWildcardShouldNotIgnoreOtherPaths() {
+        assertThatThrownBy(() -> assertThatJson("{\"a\":{\"id\":1, \"timestamp\":2}}")
+                        .whenIgnoringPaths("**.timestamp")
+                        .isEqualTo("{\"a\":{\"id\":2, \"timestamp\":0}}"))
+                .hasMessage(
+                        "JSON documents are different:\nDifferent value found in node \"a.id\", expected: <2> but was: <1>.\n");
+    }
+
     @SuppressWarnings({"UnusedMethod", "EffectivelyPrivate"})
     protected static class TestBean {
         final BigDecimal demo;
@@ -50,9 +50,13 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import net.javacrumbs.jsonunit.JsonAssert;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.ParametrizedMatcher;
@@ -62,6 +66,7 @@ import org.hamcrest.Matcher;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public abstract class AbstractJsonAssertTest {
 
@@ -443,6 +448,77 @@ public abstract class AbstractJsonAssertTest {
         assertJsonPartEquals(new StringReader("1"), new StringReader("{\"test\":{\"value\":1}}"), "test.value");
     }
 
+    @Test
+    void testAssertBytes() {
+        assertJsonEquals("{\"test\":[1, \"a\"]}", "{\"test\":[1, \"a\"]}".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> assertJsonEquals("{\"test\":2}", "{\"test\":1}".getBytes(StandardCharsets.UTF_8)))
+                .hasMessage(
+                        "JSON documents are different:\nDifferent value found in node \"test\", expected: <2> but was: <1>.\n");
+    }
+
+    @Test
+    void testInvalidBytesShowContent() {
+        byte[] bytes = "{\"test\":[1, 2".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> assertJsonEquals("{}", bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse fullJson value: '{\"test\":[1, 2'");
+        assertThatThrownBy(() -> assertJsonEquals("{}", ByteBuffer.wrap(bytes)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse fullJson value: '{\"test\":[1, 2'");
+    }
+
+    @Test
+    void testInvalidBytesShowOnlyBeginningOfContent() {
+        String content = "{\"test\":[" + "1, ".repeat(100);
+        assertThatThrownBy(() -> assertJsonEquals("{}", content.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not parse fullJson value: '" + content.substring(0, 200) + "...'");
+    }
+
+    @Test
+    void testAssertPartOkByteBuffers() {
+        byte[] bytes = "--{\"test\":{\"value\":1}}--".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length - 4).put(bytes, 2, bytes.length - 4);
+        directBuffer.flip();
+
+        assertJsonPartEquals(1, heapBuffer, "test.value");
+        assertJsonPartEquals(1, directBuffer, "test.value");
+        // the buffers can be read repeatedly
+        assertJsonPartEquals(1, directBuffer, "test.value");
+        assertEquals(0, directBuffer.position());
+    }
+
+    @Test
+    void testAssertPartOkInputStream() {
+        assertJsonPartEquals(
+                1, new ByteArrayInputStream("{\"test\":{\"value\":1}}".getBytes(StandardCharsets.UTF_8)), "test.value");
+    }
+
+    @Test
+    void testAssertPartOkFile(@TempDir java.nio.file.Path dir) throws IOException {
+        java.nio.file.Path file = Files.writeString(dir.resolve("test.json"), "{\"test\":{\"value\":\"\u010d\"}}");
+        assertJsonPartEquals("\"\u010d\"", file, "test.value");
+    }
+
+    @Test
+    void testCompareFiles(@TempDir java.nio.file.Path dir) throws IOException {
+        java.nio.file.Path expected = Files.writeString(dir.resolve("expected.json"), "{\"test\": [1, 2, 3]}");
+        java.nio.file.Path actual = Files.writeString(dir.resolve("actual.json"), "{\"test\":[1,2,4]}");
+        assertJsonEquals(expected, expected);
+        assertThatThrownBy(() -> assertJsonEquals(expected, actual))
+                .hasMessage(
+                        "JSON documents are different:\nDifferent value found in node \"test[2]\", expected: <3> but was: <4>.\n");
+    }
+
+    @Test
+    void testNonExistingFile(@TempDir java.nio.file.Path dir) {
+        java.nio.file.Path file = dir.resolve("nonsense.json");
+        assertThatThrownBy(() -> assertJsonEquals("{}", file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Can not read fullJson value from '" + file + "'.");
+    }
+
     @Test
     void testAssertPartWithJsonPath() {
         assertJsonPartEquals("[1]", "{\"test\":{\"value\":1}}", "$..value");
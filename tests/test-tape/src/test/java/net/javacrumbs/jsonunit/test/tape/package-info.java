@@ -0,0 +1,4 @@
+@NullMarked
+package net.javacrumbs.jsonunit.test.tape;
+
+import org.jspecify.annotations.NullMarked;